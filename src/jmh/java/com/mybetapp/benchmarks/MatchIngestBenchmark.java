@@ -0,0 +1,112 @@
+package com.mybetapp.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybetapp.entities.Match;
+import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.services.MatchServiceImpl;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Allocation per saved match along the ingest path: JSON body to
+ * SaveMatchRequest, bean validation (including the class-level odds and team
+ * validators), and mapping onto a new Match entity. {@code ingest} runs all
+ * three steps; the other benchmarks isolate one step each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchIngestBenchmark {
+
+	private static final byte[] BODY = """
+			{"description":"  Derby of the eternal enemies ","matchDate":"2031-05-01","matchTime":"20:45",
+			"teamA":" Olympiacos ","teamB":"Panathinaikos","sport":"FOOTBALL",
+			"odds":[{"specifier":"WIN","odd":1.85},{"specifier":"DRAW","odd":3.4},{"specifier":"LOSE","odd":4.2}]}
+			""".getBytes(StandardCharsets.UTF_8);
+
+	private static final MethodHandle MAP_REQUEST_TO_MATCH;
+
+	static {
+		try {
+			MAP_REQUEST_TO_MATCH = MethodHandles.privateLookupIn(MatchServiceImpl.class, MethodHandles.lookup())
+					.findVirtual(MatchServiceImpl.class, "mapRequestToMatch",
+							MethodType.methodType(void.class, SaveMatchRequest.class, Match.class, String.class));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private ObjectMapper objectMapper;
+	private ValidatorFactory validatorFactory;
+	private Validator validator;
+	private MatchServiceImpl matchService;
+	private SaveMatchRequest request;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+		// Mapping touches none of the collaborators
+		matchService = new MatchServiceImpl(null, null, null, null, null, null);
+		request = objectMapper.readValue(BODY, SaveMatchRequest.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public SaveMatchRequest deserialize() throws IOException {
+		return objectMapper.readValue(BODY, SaveMatchRequest.class);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<SaveMatchRequest>> validate() {
+		return validator.validate(request);
+	}
+
+	@Benchmark
+	public Match map() throws Throwable {
+		Match match = new Match();
+		MAP_REQUEST_TO_MATCH.invokeExact(matchService, request, match, "alice");
+		return match;
+	}
+
+	@Benchmark
+	public Match ingest() throws Throwable {
+		SaveMatchRequest parsed = objectMapper.readValue(BODY, SaveMatchRequest.class);
+		if (!validator.validate(parsed).isEmpty()) {
+			throw new IllegalStateException("Benchmark request must be valid");
+		}
+		Match match = new Match();
+		MAP_REQUEST_TO_MATCH.invokeExact(matchService, parsed, match, "alice");
+		return match;
+	}
+}
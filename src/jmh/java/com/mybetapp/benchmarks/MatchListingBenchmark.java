@@ -0,0 +1,145 @@
+package com.mybetapp.benchmarks;
+
+import com.mybetapp.MySpringbootAppApplication;
+import com.mybetapp.dataset.SyntheticDatasetSpec;
+import com.mybetapp.dataset.SyntheticMatchGenerator;
+import com.mybetapp.dataset.SyntheticMatchGenerator.SyntheticMatch;
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.entities.Match;
+import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.repositories.MatchRepository;
+import com.mybetapp.services.MatchServiceImpl;
+import com.mybetapp.util.MatchSorts;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One page of {@code GET /bet/matches} read through the DTO projection path
+ * against the entity path it replaced: load managed Match entities, let the
+ * odds load lazily and copy everything over in {@code getMatchDTO}. Runs the
+ * whole application on in-memory H2, with the page cache off.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchListingBenchmark {
+
+	private static final int MATCHES = 5_000;
+
+	private static final MethodHandle GET_MATCH_DTO;
+
+	static {
+		try {
+			GET_MATCH_DTO = MethodHandles.privateLookupIn(MatchServiceImpl.class, MethodHandles.lookup())
+					.findVirtual(MatchServiceImpl.class, "getMatchDTO", MethodType.methodType(MatchDTO.class,
+							Match.class));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	@Param({"10", "50"})
+	private int pageSize;
+
+	private ConfigurableApplicationContext context;
+	private MatchServiceImpl matchService;
+	// Target of the getMatchDTO handle; the context bean is a transactional proxy
+	private MatchServiceImpl mapper;
+	private MatchRepository matchRepository;
+	private TransactionTemplate readWriteTransaction;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(MySpringbootAppApplication.class).run("--server.port=0",
+				"--spring.main.banner-mode=off", "--logging.level.root=WARN",
+				"--spring.datasource.url=jdbc:h2:mem:listing-benchmark",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"--mybetapp.matches.page-cache.enabled=false",
+				"--mybetapp.reactive.enabled=false");
+		matchService = context.getBean(MatchServiceImpl.class);
+		matchRepository = context.getBean(MatchRepository.class);
+		mapper = new MatchServiceImpl(null, null, null, null, null, null);
+		readWriteTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+		SyntheticMatchGenerator generator = new SyntheticMatchGenerator(
+				new SyntheticDatasetSpec(MATCHES, 50, 40, LocalDate.of(2030, 1, 1), 50, 0.4, 1.05, 12.0, 42));
+		matchRepository.saveAll(
+				LongStream.range(0, MATCHES).mapToObj(generator::match).map(MatchListingBenchmark::toMatch).toList());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<MatchDTO> projection() {
+		return matchService.getPaginatedMatches(3, pageSize, "matchDate", "desc", null, null, null, null, null, null)
+				.getValue().getContent();
+	}
+
+	@Benchmark
+	public List<MatchDTO> entities() {
+		// Read-write transaction and dirty checking on commit, as before the projection path
+		return readWriteTransaction.execute(status -> {
+			Page<Match> page = matchRepository.findAll(PageRequest.of(3, pageSize, MatchSorts.of("matchDate", "desc")));
+			return page.getContent().stream().map(this::getMatchDTO).toList();
+		});
+	}
+
+	private MatchDTO getMatchDTO(Match match) {
+		try {
+			return (MatchDTO) GET_MATCH_DTO.invokeExact(mapper, match);
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static Match toMatch(SyntheticMatch synthetic) {
+		Match match = new Match();
+		match.setOwner(synthetic.owner());
+		match.setDescription(synthetic.description());
+		match.setMatchDate(synthetic.matchDate());
+		match.setMatchTime(synthetic.matchTime());
+		match.setTeamA(synthetic.teamA());
+		match.setTeamB(synthetic.teamB());
+		match.setSport(synthetic.sport());
+		double[] odds = {synthetic.win(), synthetic.draw(), synthetic.lose()};
+		for (Specifier specifier : Specifier.values()) {
+			MatchOdds odd = new MatchOdds();
+			odd.setSpecifier(specifier);
+			odd.setOdd(odds[specifier.ordinal()]);
+			odd.setMatch(match);
+			match.getOdds().add(odd);
+		}
+		return match;
+	}
+}
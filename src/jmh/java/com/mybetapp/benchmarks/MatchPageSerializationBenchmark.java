@@ -0,0 +1,75 @@
+package com.mybetapp.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.models.MatchOdds;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serializing one {@code GET /bet/matches} response body, as the servlet
+ * stack does on every page-cache miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchPageSerializationBenchmark {
+
+	@Param({"10", "50"})
+	private int pageSize;
+
+	private ObjectMapper objectMapper;
+	private Page<MatchDTO> page;
+
+	@Setup
+	public void setUp() {
+		// Same defaults as Boot's auto-configured mapper (java.time support, ISO dates)
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+		List<MatchDTO> matches = new ArrayList<>(pageSize);
+		for (int i = 0; i < pageSize; i++) {
+			MatchDTO match = new MatchDTO((long) i, "owner" + i % 7, "MATCH " + i, LocalDate.of(2031, 5, 1),
+					LocalTime.of(20, 45), "TEAM A" + i, "TEAM B" + i, i % 2 == 0 ? Sport.FOOTBALL : Sport.BASKETBALL,
+					0L);
+			List<MatchOdds> odds = new ArrayList<>(3);
+			for (Specifier specifier : Specifier.values()) {
+				MatchOdds odd = new MatchOdds();
+				odd.setSpecifier(specifier);
+				odd.setOdd(1.5 + i % 10 + specifier.ordinal());
+				odds.add(odd);
+			}
+			match.setOdds(odds);
+			matches.add(match);
+		}
+		page = new PageImpl<>(matches, PageRequest.of(0, pageSize), 10_000);
+	}
+
+	@Benchmark
+	public byte[] serializePage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(page);
+	}
+}
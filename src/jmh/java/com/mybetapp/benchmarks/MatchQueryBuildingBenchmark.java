@@ -0,0 +1,145 @@
+package com.mybetapp.benchmarks;
+
+import com.mybetapp.MySpringbootAppApplication;
+import com.mybetapp.dataset.SyntheticDatasetSpec;
+import com.mybetapp.dataset.SyntheticMatchGenerator;
+import com.mybetapp.dataset.SyntheticMatchGenerator.SyntheticMatch;
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.entities.Match;
+import com.mybetapp.repositories.MatchRepository;
+import com.mybetapp.util.MatchFilterKey;
+import com.mybetapp.util.MatchSorts;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.hibernate.jpa.HibernateHints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One filtered listing query (owner, sport and matchDate set, a handful of
+ * rows) built the way the repository used to, from a per-call Criteria
+ * {@link Specification}, against the prebuilt HQL it uses now. The query is
+ * selective, so the difference is mostly query building and SQL translation,
+ * which Hibernate caches for HQL but not for Criteria. Runs the whole
+ * application on in-memory H2.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchQueryBuildingBenchmark {
+
+	private static final int MATCHES = 5_000;
+
+	private ConfigurableApplicationContext context;
+	private MatchRepository matchRepository;
+	private EntityManager entityManager;
+	private TransactionTemplate readOnlyTransaction;
+
+	private MatchFilterKey filter;
+	private Sort sort;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(MySpringbootAppApplication.class).run("--server.port=0",
+				"--spring.main.banner-mode=off", "--logging.level.root=WARN",
+				"--spring.datasource.url=jdbc:h2:mem:query-building-benchmark",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"--mybetapp.reactive.enabled=false");
+		matchRepository = context.getBean(MatchRepository.class);
+		entityManager = SharedEntityManagerCreator
+				.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+		readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnlyTransaction.setReadOnly(true);
+
+		SyntheticMatchGenerator generator = new SyntheticMatchGenerator(
+				new SyntheticDatasetSpec(MATCHES, 50, 40, LocalDate.of(2030, 1, 1), 50, 0.4, 1.05, 12.0, 42));
+		matchRepository.saveAll(
+				LongStream.range(0, MATCHES).mapToObj(generator::match).map(MatchListingBenchmark::toMatch).toList());
+
+		SyntheticMatch first = generator.match(0);
+		filter = new MatchFilterKey(first.owner(), first.sport(), first.matchDate());
+		sort = MatchSorts.of("matchDate", "desc");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<MatchDTO> criteria() {
+		return readOnlyTransaction.execute(status -> {
+			Specification<Match> spec = buildMatchSpecification(filter.owner(), filter.sport().name(),
+					filter.matchDate());
+
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaQuery<MatchDTO> query = cb.createQuery(MatchDTO.class);
+			Root<Match> root = query.from(Match.class);
+			query.select(cb.construct(MatchDTO.class, root.get("id"), root.get("owner"), root.get("description"),
+					root.get("matchDate"), root.get("matchTime"), root.get("teamA"), root.get("teamB"),
+					root.get("sport"), root.get("version")));
+			Predicate predicate = spec.toPredicate(root, query, cb);
+			if (predicate != null) {
+				query.where(predicate);
+			}
+			query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+			return entityManager.createQuery(query).setHint(HibernateHints.HINT_READ_ONLY, true)
+					.getResultList();
+		});
+	}
+
+	@Benchmark
+	public List<MatchDTO> prebuilt() {
+		return readOnlyTransaction.execute(status -> matchRepository.findMatchDTOs(filter, sort));
+	}
+
+	// The specification MatchServiceImpl built for every listing request
+	private static Specification<Match> buildMatchSpecification(String owner, String sport, LocalDate matchDate) {
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			if (owner != null && !owner.isEmpty()) {
+				predicates.add(cb.equal(root.get("owner"), owner));
+			}
+			if (sport != null && !sport.isEmpty()) {
+				predicates.add(cb.equal(root.get("sport"), sport));
+			}
+			if (matchDate != null) {
+				predicates.add(cb.equal(root.get("matchDate"), matchDate));
+			}
+
+			return cb.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -0,0 +1,139 @@
+package com.mybetapp.benchmarks;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.entities.Match;
+import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.Sanitization;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.services.MatchServiceImpl;
+import com.mybetapp.util.MatchSorts;
+import com.mybetapp.validations.MatchOddsConstraintValidator;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Per-call cost of the small helpers every list, save and update request goes
+ * through. Private helpers are reached through method handles, which the JIT
+ * inlines like a direct call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchServiceBenchmark {
+
+	private static final MethodHandle GET_MATCH_DTO = privateMethod("getMatchDTO", MatchDTO.class, Match.class);
+	private static final MethodHandle SANITIZE_USER_INPUT = privateMethod("sanitizeUserInput", String.class,
+			String.class, Sanitization.class);
+	private static final MethodHandle PARSE_DATE = privateMethod("parseDate", LocalDate.class, String.class);
+	private static final MethodHandle PARSE_TIME = privateMethod("parseTime", LocalTime.class, String.class);
+
+	private MatchServiceImpl matchService;
+	private MatchOddsConstraintValidator oddsValidator;
+
+	private Match match;
+	private SaveMatchRequest request;
+	private String teamName;
+	private String matchDate;
+	private String matchTime;
+
+	@Setup
+	public void setUp() {
+		// The helpers under test touch none of the collaborators
+		matchService = new MatchServiceImpl(null, null, null, null, null, null);
+		oddsValidator = new MatchOddsConstraintValidator();
+
+		match = new Match();
+		match.setId(42L);
+		match.setOwner("alice");
+		match.setDescription("DERBY");
+		match.setMatchDate(LocalDate.of(2031, 5, 1));
+		match.setMatchTime(LocalTime.of(20, 45));
+		match.setTeamA("OSFP");
+		match.setTeamB("PAO");
+		match.setSport(Sport.FOOTBALL);
+		match.setVersion(3L);
+
+		List<com.mybetapp.models.MatchOdds> requestOdds = new ArrayList<>();
+		for (Specifier specifier : Specifier.values()) {
+			MatchOdds odds = new MatchOdds();
+			odds.setSpecifier(specifier);
+			odds.setOdd(1.5 + specifier.ordinal());
+			odds.setMatch(match);
+			match.getOdds().add(odds);
+
+			com.mybetapp.models.MatchOdds requestOdd = new com.mybetapp.models.MatchOdds();
+			requestOdd.setSpecifier(specifier);
+			requestOdd.setOdd(1.5 + specifier.ordinal());
+			requestOdds.add(requestOdd);
+		}
+
+		request = new SaveMatchRequest();
+		request.setOdds(requestOdds);
+
+		teamName = "  Olympiacos Piraeus ";
+		matchDate = "2031-05-01";
+		matchTime = "20:45";
+	}
+
+	@Benchmark
+	public MatchDTO getMatchDTO() throws Throwable {
+		return (MatchDTO) GET_MATCH_DTO.invokeExact(matchService, match);
+	}
+
+	@Benchmark
+	public String sanitizeUserInput() throws Throwable {
+		return (String) SANITIZE_USER_INPUT.invokeExact(matchService, teamName, Sanitization.UPPERCASE);
+	}
+
+	@Benchmark
+	public LocalDate parseDate() throws Throwable {
+		return (LocalDate) PARSE_DATE.invokeExact(matchService, matchDate);
+	}
+
+	@Benchmark
+	public LocalTime parseTime() throws Throwable {
+		return (LocalTime) PARSE_TIME.invokeExact(matchService, matchTime);
+	}
+
+	@Benchmark
+	public Sort getSort() {
+		return MatchSorts.of("matchDate", "desc");
+	}
+
+	@Benchmark
+	public boolean validateOdds() {
+		// A valid request never touches the validator context
+		return oddsValidator.isValid(request, null);
+	}
+
+	private static MethodHandle privateMethod(String name, Class<?> returnType, Class<?>... parameterTypes) {
+		try {
+			return MethodHandles.privateLookupIn(MatchServiceImpl.class, MethodHandles.lookup())
+					.findVirtual(MatchServiceImpl.class, name, MethodType.methodType(returnType, parameterTypes));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+}
@@ -2,8 +2,11 @@ package com.mybetapp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC is wired by hand in ReactiveDatabaseConfig: an auto-configured
+// ConnectionFactory bean would switch off the JDBC DataSource
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class MySpringbootAppApplication {
 
 	public static void main(String[] args) {
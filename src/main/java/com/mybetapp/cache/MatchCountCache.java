@@ -0,0 +1,66 @@
+package com.mybetapp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mybetapp.events.MatchChangedEvent;
+import com.mybetapp.util.MatchFilterKey;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caches the total number of matches per (owner, sport, matchDate) filter so
+ * paged listings do not run a COUNT query on every request. Totals are evicted
+ * when a match covered by the filter changes and recounted on the next read.
+ */
+@Component
+public class MatchCountCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MatchCountCache.class);
+
+	private final boolean enabled;
+	private final Cache<MatchFilterKey, Long> totals;
+
+	// Bumped on every invalidation so a total counted before a change is not cached
+	// after the change was evicted
+	private final AtomicLong generation = new AtomicLong();
+
+	public MatchCountCache(@Value("${mybetapp.matches.cached-totals.enabled:false}") boolean enabled,
+			@Value("${mybetapp.matches.cached-totals.maximum-size:10000}") long maximumSize,
+			@Value("${mybetapp.matches.cached-totals.expire-after-write:5m}") Duration expireAfterWrite) {
+		this.enabled = enabled;
+		this.totals = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public long getTotal(MatchFilterKey filter, LongSupplier counter) {
+		Long cached = totals.getIfPresent(filter);
+		if (cached != null) {
+			return cached;
+		}
+
+		long countedAtGeneration = generation.get();
+		long total = counter.getAsLong();
+		if (countedAtGeneration == generation.get()) {
+			totals.put(filter, total);
+		}
+		return total;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMatchChanged(MatchChangedEvent event) {
+		generation.incrementAndGet();
+
+		totals.asMap().keySet()
+				.removeIf(filter -> event.affectedKeys().stream().anyMatch(filter::covers));
+		LOGGER.debug("Evicted cached totals affected by change of match {}", event.matchId());
+	}
+}
@@ -0,0 +1,81 @@
+package com.mybetapp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.events.MatchChangedEvent;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded cache of match listing pages. When a match changes, only the pages
+ * whose filter could contain it, or which already show it, are evicted.
+ */
+@Component
+public class MatchPageCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MatchPageCache.class);
+
+	private final boolean enabled;
+	private final Cache<MatchPageKey, Page<MatchDTO>> pages;
+
+	// Bumped on every invalidation so a page read before a change is not cached
+	// after the change was evicted
+	private final AtomicLong generation = new AtomicLong();
+
+	public MatchPageCache(@Value("${mybetapp.matches.page-cache.enabled:true}") boolean enabled,
+			@Value("${mybetapp.matches.page-cache.maximum-size:1000}") long maximumSize,
+			@Value("${mybetapp.matches.page-cache.expire-after-write:30s}") Duration expireAfterWrite) {
+		this.enabled = enabled;
+		this.pages = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).recordStats()
+				.build();
+	}
+
+	public Page<MatchDTO> getIfPresent(MatchPageKey key) {
+		return enabled ? pages.getIfPresent(key) : null;
+	}
+
+	/**
+	 * Returns the token to pass to {@link #put} once the page has been loaded.
+	 */
+	public long generation() {
+		return generation.get();
+	}
+
+	public void put(MatchPageKey key, Page<MatchDTO> page, long loadedAtGeneration) {
+		if (enabled && loadedAtGeneration == generation.get()) {
+			pages.put(key, page);
+		}
+	}
+
+	public CacheStats stats() {
+		return pages.stats();
+	}
+
+	public long size() {
+		return pages.estimatedSize();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMatchChanged(MatchChangedEvent event) {
+		generation.incrementAndGet();
+
+		pages.asMap().entrySet().removeIf(entry -> isAffected(entry.getKey(), entry.getValue(), event));
+		LOGGER.debug("Evicted cached pages affected by change of match {}", event.matchId());
+	}
+
+	private boolean isAffected(MatchPageKey key, Page<MatchDTO> page, MatchChangedEvent event) {
+		if (event.affectedKeys().stream().anyMatch(key.filter()::covers)) {
+			return true;
+		}
+
+		return page.getContent().stream().anyMatch(match -> match.getMatchId().equals(event.matchId()));
+	}
+}
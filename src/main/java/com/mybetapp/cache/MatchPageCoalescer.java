@@ -0,0 +1,91 @@
+package com.mybetapp.cache;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.util.Result;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets concurrent identical {@code GET /bet/matches} requests share one load.
+ * The first request for a page runs the query; requests for the same page that
+ * arrive while it runs wait for and return its result instead of taking a
+ * connection of their own. Once the load finishes the next request for the
+ * page loads again, usually from {@link MatchPageCache}.
+ *
+ * <p>
+ * Requests are matched on their parameters as sent, before any normalization,
+ * and the shared page is the same instance {@link MatchPageCache} would hand
+ * out. Only the anonymous listing goes through here, so no result depends on
+ * who asked for it.
+ */
+@Component
+public class MatchPageCoalescer {
+
+	private final boolean enabled;
+	private final ConcurrentMap<Request, CompletableFuture<Result<Page<MatchDTO>>>> inFlight = new ConcurrentHashMap<>();
+	private final Counter coalesced;
+
+	public MatchPageCoalescer(@Value("${mybetapp.matches.coalescing.enabled:true}") boolean enabled,
+			MeterRegistry meterRegistry) {
+		this.enabled = enabled;
+		this.coalesced = Counter.builder("mybetapp.matches.coalesced")
+				.description("Match page requests served by a load already in flight").register(meterRegistry);
+	}
+
+	public Result<Page<MatchDTO>> load(Request request, Supplier<Result<Page<MatchDTO>>> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+
+		CompletableFuture<Result<Page<MatchDTO>>> load = new CompletableFuture<>();
+		CompletableFuture<Result<Page<MatchDTO>>> running = inFlight.putIfAbsent(request, load);
+		if (running != null) {
+			coalesced.increment();
+			return join(running);
+		}
+
+		try {
+			Result<Page<MatchDTO>> result = loader.get();
+			load.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			load.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(request, load);
+		}
+	}
+
+	public long coalescedCount() {
+		return (long) coalesced.count();
+	}
+
+	private static Result<Page<MatchDTO>> join(CompletableFuture<Result<Page<MatchDTO>>> load) {
+		try {
+			return load.join();
+		} catch (CompletionException e) {
+			// Rethrow what the loading request saw
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	public record Request(int page, int size, String sortBy, String direction, String owner, String sport,
+			LocalDate matchDate, LocalDateTime from, LocalDateTime to, Integer upcomingHours) {
+	}
+}
@@ -0,0 +1,10 @@
+package com.mybetapp.cache;
+
+import com.mybetapp.util.MatchFilterKey;
+
+/**
+ * Identifies one page of the match listing: paging and sort parameters plus the
+ * (owner, sport, matchDate) filter and kick-off range.
+ */
+public record MatchPageKey(int page, int size, String sortBy, String direction, MatchFilterKey filter) {
+}
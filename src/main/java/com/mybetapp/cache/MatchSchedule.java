@@ -0,0 +1,26 @@
+package com.mybetapp.cache;
+
+import java.util.Set;
+
+/**
+ * A serialized per-day schedule, ready to be written to the response as is.
+ *
+ * @param json
+ *            the JSON array of matches
+ * @param gzippedJson
+ *            the same bytes, gzip-compressed
+ * @param etag
+ *            quoted entity tag of the JSON
+ * @param matchIds
+ *            ids of the matches in the schedule, used for invalidation
+ */
+public record MatchSchedule(byte[] json, byte[] gzippedJson, String etag, Set<Long> matchIds) {
+
+	/**
+	 * Quoted entity tag of the gzip-compressed bytes, distinct from
+	 * {@link #etag()} since the two representations differ byte for byte.
+	 */
+	public String gzippedEtag() {
+		return etag.substring(0, etag.length() - 1) + "-gz\"";
+	}
+}
@@ -0,0 +1,103 @@
+package com.mybetapp.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.events.MatchChangedEvent;
+import com.mybetapp.util.MatchFilterKey;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Keeps per-day match schedules as finished response bytes, so repeated
+ * requests for the same day skip the query, the DTO mapping and Jackson.
+ */
+@Component
+public class MatchScheduleCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MatchScheduleCache.class);
+
+	private final ObjectMapper objectMapper;
+	private final Cache<MatchScheduleKey, MatchSchedule> schedules;
+
+	// Bumped on every invalidation so a schedule read before a change is not cached
+	// after the change was evicted
+	private final AtomicLong generation = new AtomicLong();
+
+	public MatchScheduleCache(ObjectMapper objectMapper,
+			@Value("${mybetapp.matches.schedule-cache.maximum-size:500}") long maximumSize,
+			@Value("${mybetapp.matches.schedule-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+		this.objectMapper = objectMapper;
+		this.schedules = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+	}
+
+	public MatchSchedule getIfPresent(MatchScheduleKey key) {
+		return schedules.getIfPresent(key);
+	}
+
+	/**
+	 * Returns the token to pass to {@link #put} once the schedule has been loaded.
+	 */
+	public long generation() {
+		return generation.get();
+	}
+
+	public MatchSchedule put(MatchScheduleKey key, List<MatchDTO> matches, long loadedAtGeneration) {
+		MatchSchedule schedule = serialize(matches);
+
+		if (loadedAtGeneration == generation.get()) {
+			schedules.put(key, schedule);
+		}
+		return schedule;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMatchChanged(MatchChangedEvent event) {
+		generation.incrementAndGet();
+
+		schedules.asMap().entrySet().removeIf(entry -> isAffected(entry.getKey(), entry.getValue(), event));
+		LOGGER.debug("Evicted cached schedules affected by change of match {}", event.matchId());
+	}
+
+	private boolean isAffected(MatchScheduleKey key, MatchSchedule schedule, MatchChangedEvent event) {
+		MatchFilterKey filter = new MatchFilterKey(null, key.sport(), key.matchDate());
+
+		return event.affectedKeys().stream().anyMatch(filter::covers)
+				|| schedule.matchIds().contains(event.matchId());
+	}
+
+	private MatchSchedule serialize(List<MatchDTO> matches) {
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(matches);
+
+			ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 4 + 64);
+			try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+				gzip.write(json);
+			}
+
+			String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+			Set<Long> matchIds = matches.stream().map(MatchDTO::getMatchId).collect(Collectors.toUnmodifiableSet());
+
+			return new MatchSchedule(json, gzipped.toByteArray(), etag, matchIds);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize match schedule", e);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to compress match schedule", e);
+		}
+	}
+}
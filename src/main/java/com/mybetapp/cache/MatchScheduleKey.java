@@ -0,0 +1,7 @@
+package com.mybetapp.cache;
+
+import com.mybetapp.enums.Sport;
+import java.time.LocalDate;
+
+public record MatchScheduleKey(LocalDate matchDate, Sport sport, String sortBy, String direction) {
+}
@@ -0,0 +1,110 @@
+package com.mybetapp.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Limits how many {@code /bet/**} requests run at once to roughly the size of
+ * the connection pool. With virtual threads Tomcat no longer caps concurrency
+ * at its worker pool, so without this every extra request would sit in
+ * Hikari's queue holding its own transaction setup and time out there instead.
+ * Waiting requests park on the semaphore, which costs a virtual thread almost
+ * nothing; requests that wait longer than {@code max-wait} get a 503.
+ *
+ * <p>
+ * Exports and imports hold their connection for the whole stream, so they take
+ * permits from a small pool of their own ({@code stream-permits}, carved out of
+ * {@code permits}). A few slow streams then cannot starve the short requests.
+ *
+ * <p>
+ * Runs after the security filter chain, so unauthenticated requests are
+ * rejected without taking a permit.
+ */
+@Component
+public class ConnectionBulkheadFilter extends OncePerRequestFilter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionBulkheadFilter.class);
+
+	private static final String[] STREAMING_PATHS = {"/bet/matches/export", "/bet/matches/import"};
+
+	private final boolean enabled;
+	private final Semaphore permits;
+	private final Semaphore streamPermits;
+	private final long maxWaitNanos;
+
+	public ConnectionBulkheadFilter(
+			@Value("${mybetapp.bulkhead.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+			@Value("${mybetapp.bulkhead.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+			@Value("${mybetapp.bulkhead.stream-permits:2}") int streamPermits,
+			@Value("${mybetapp.bulkhead.max-wait:2s}") Duration maxWait) {
+		this.enabled = enabled;
+		int reservedForStreams = Math.max(1, Math.min(streamPermits, permits - 1));
+		// Fair, so queued requests are served in arrival order and none starves
+		this.permits = new Semaphore(Math.max(1, permits - reservedForStreams), true);
+		this.streamPermits = new Semaphore(reservedForStreams, true);
+		this.maxWaitNanos = maxWait.toNanos();
+	}
+
+	public int availablePermits() {
+		return permits.availablePermits();
+	}
+
+	public int availableStreamPermits() {
+		return streamPermits.availablePermits();
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled || !request.getServletPath().startsWith("/bet/");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		Semaphore pool = isStreaming(request) ? streamPermits : permits;
+		boolean acquired;
+		try {
+			acquired = pool.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+			return;
+		}
+
+		if (!acquired) {
+			LOGGER.warn("Rejected {} {}: no connection slot freed up in time", request.getMethod(),
+					request.getRequestURI());
+			response.setHeader("Retry-After", "1");
+			response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is busy, please retry");
+			return;
+		}
+
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			pool.release();
+		}
+	}
+
+	private static boolean isStreaming(HttpServletRequest request) {
+		String path = request.getServletPath();
+		for (String streamingPath : STREAMING_PATHS) {
+			if (path.startsWith(streamingPath)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
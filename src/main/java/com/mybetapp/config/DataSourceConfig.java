@@ -0,0 +1,34 @@
+package com.mybetapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+public class DataSourceConfig {
+
+	/**
+	 * The connection pool, built from {@code spring.datasource.*} and
+	 * {@code spring.datasource.hikari.*} the same way Spring Boot would.
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource hikariDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	/**
+	 * Defers checking out a pooled connection until the first statement runs, so
+	 * transactions that are served entirely from a cache never touch the pool.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource hikariDataSource) {
+		return new LazyConnectionDataSourceProxy(hikariDataSource);
+	}
+}
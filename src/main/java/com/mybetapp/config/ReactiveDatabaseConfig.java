@@ -0,0 +1,47 @@
+package com.mybetapp.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+@Configuration
+public class ReactiveDatabaseConfig {
+
+	private ConnectionPool connectionPool;
+
+	/**
+	 * R2DBC client for the non-blocking read API. The pool is deliberately kept
+	 * out of the context: Boot's DataSource auto-configuration backs off as soon as
+	 * a ConnectionFactory bean exists, which would take the JPA stack down with it.
+	 * Connections are opened on first use, so the pool costs nothing until the
+	 * reactive API is called.
+	 */
+	@Bean
+	public DatabaseClient reactiveDatabaseClient(@Value("${mybetapp.reactive.r2dbc.url}") String url,
+			@Value("${spring.datasource.username}") String username,
+			@Value("${spring.datasource.password}") String password,
+			@Value("${mybetapp.reactive.r2dbc.max-size:4}") int maxSize,
+			@Value("${mybetapp.reactive.r2dbc.max-acquire-time:5s}") Duration maxAcquireTime) {
+		ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+				.option(ConnectionFactoryOptions.USER, username).option(ConnectionFactoryOptions.PASSWORD, password)
+				.build();
+
+		connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+				.initialSize(0).maxSize(maxSize).maxAcquireTime(maxAcquireTime).build());
+		return DatabaseClient.create(connectionPool);
+	}
+
+	@PreDestroy
+	public void closeConnectionPool() {
+		if (connectionPool != null) {
+			connectionPool.dispose();
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.mybetapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybetapp.controllers.ReactiveMatchHandler;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Second HTTP server, on Netty, for the non-blocking read API. The servlet
+ * stack keeps serving everything else on {@code server.port}; this one only
+ * routes the reactive match listing and runs on a handful of event-loop
+ * threads, so slow readers cost a connection and some buffer space instead of a
+ * blocked thread each.
+ */
+@Component
+public class ReactiveMatchServer implements SmartLifecycle {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveMatchServer.class);
+
+	private final ReactiveMatchHandler matchHandler;
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final String address;
+	private final int port;
+
+	private volatile DisposableServer server;
+
+	public ReactiveMatchServer(ReactiveMatchHandler matchHandler, ObjectMapper objectMapper,
+			@Value("${mybetapp.reactive.enabled:false}") boolean enabled,
+			@Value("${server.address:0.0.0.0}") String address, @Value("${mybetapp.reactive.port:8889}") int port) {
+		this.matchHandler = matchHandler;
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.address = address;
+		this.port = port;
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+
+		RouterFunction<ServerResponse> routes = RouterFunctions.route()
+				.GET("/bet/matches", matchHandler::getPaginatedMatches).build();
+
+		// Same JSON shape (ISO dates, no timestamps) as the servlet endpoints
+		HandlerStrategies strategies = HandlerStrategies.builder()
+				.codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper)))
+				.webFilter(new CorsWebFilter(corsConfigurationSource())).build();
+		HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes, strategies);
+
+		server = HttpServer.create().host(address).port(port).handle(new ReactorHttpHandlerAdapter(httpHandler))
+				.bindNow();
+		LOGGER.info("Reactive match API listening on {}:{}", address, server.port());
+	}
+
+	@Override
+	public void stop() {
+		DisposableServer running = server;
+		if (running != null) {
+			running.disposeNow();
+			server = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return server != null;
+	}
+
+	/**
+	 * The bound port, which differs from the configured one when that is 0.
+	 */
+	public int getPort() {
+		DisposableServer running = server;
+		return running == null ? -1 : running.port();
+	}
+
+	private UrlBasedCorsConfigurationSource corsConfigurationSource() {
+		CorsConfiguration configuration = new CorsConfiguration();
+		configuration.setAllowedOrigins(List.of("http://localhost:4200"));
+		configuration.setAllowedMethods(List.of("GET", "OPTIONS"));
+		configuration.setAllowedHeaders(List.of("*"));
+
+		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+		source.registerCorsConfiguration("/**", configuration);
+		return source;
+	}
+}
@@ -1,22 +1,59 @@
 package com.mybetapp.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mybetapp.cache.MatchPageCache;
+import com.mybetapp.cache.MatchPageCoalescer;
+import com.mybetapp.cache.MatchSchedule;
+import com.mybetapp.cache.MatchScheduleCache;
+import com.mybetapp.cache.MatchScheduleKey;
+import com.mybetapp.dto.MatchBatchItemDTO;
 import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchImportProgressDTO;
+import com.mybetapp.dto.MatchImportRejectionDTO;
+import com.mybetapp.dto.MatchOddsDTO;
+import com.mybetapp.dto.MatchScrollDTO;
+import com.mybetapp.dto.MatchSliceDTO;
+import com.mybetapp.enums.MatchFileFormat;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.metrics.MatchErrorMetrics;
 import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.models.UpdateOddsRequest;
+import com.mybetapp.services.MatchImportListener;
+import com.mybetapp.services.MatchImportService;
 import com.mybetapp.services.MatchService;
 import com.mybetapp.util.Result;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,21 +63,190 @@ import org.springframework.web.bind.annotation.*;
 public class MatchController {
 	private static final Logger LOGGER = LoggerFactory.getLogger(MatchController.class);
 
+	// Column names match the CSV import, so an export can be imported again
+	private static final String EXPORT_CSV_HEADER = "matchId,owner,description,matchDate,matchTime,teamA,teamB,sport,"
+			+ "version,win,draw,lose\n";
+
 	private final MatchService matchService;
+	private final MatchPageCache matchPageCache;
+	private final MatchPageCoalescer matchPageCoalescer;
+	private final MatchScheduleCache matchScheduleCache;
+	private final MatchImportService matchImportService;
+	private final ObjectMapper objectMapper;
+	private final MatchErrorMetrics errorMetrics;
 
 	@GetMapping("/matches")
 	public ResponseEntity<?> getPaginatedMatches(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "matchDate") String sortBy,
+			@RequestParam(defaultValue = "desc") String direction, @RequestParam(required = false) String owner,
+			@RequestParam(required = false) String sport,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate matchDate,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(required = false) Integer upcomingHours) {
+		Result<Page<MatchDTO>> result = matchPageCoalescer.load(
+				new MatchPageCoalescer.Request(page, size, sortBy, direction, owner, sport, matchDate, from, to,
+						upcomingHours),
+				() -> matchService.getPaginatedMatches(page, size, sortBy, direction, owner, sport, matchDate, from, to,
+						upcomingHours));
+
+		if (result.isSuccess()) {
+			return ResponseEntity.ok(result.getValue());
+		}
+
+		HttpStatus status = result.getError().toLowerCase().contains("invalid range")
+				? HttpStatus.BAD_REQUEST
+				: HttpStatus.INTERNAL_SERVER_ERROR;
+
+		return errorResponse("getPaginatedMatches", status, result);
+	}
+
+	@GetMapping("/schedule")
+	public ResponseEntity<?> getMatchSchedule(
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate matchDate,
+			@RequestParam(required = false) String sport, @RequestParam(defaultValue = "matchDate") String sortBy,
+			@RequestParam(defaultValue = "asc") String direction,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		MatchScheduleKey key = new MatchScheduleKey(matchDate,
+				sport == null || sport.isEmpty() ? null : Sport.fromString(sport), sortBy,
+				direction.toLowerCase(Locale.ROOT));
+
+		MatchSchedule schedule = matchScheduleCache.getIfPresent(key);
+		if (schedule == null) {
+			long cacheGeneration = matchScheduleCache.generation();
+
+			Result<List<MatchDTO>> result = matchService.getMatchSchedule(matchDate, sport, sortBy, direction);
+			if (!result.isSuccess()) {
+				return errorResponse("getMatchSchedule", HttpStatus.INTERNAL_SERVER_ERROR, result);
+			}
+			schedule = matchScheduleCache.put(key, result.getValue(), cacheGeneration);
+		}
+
+		boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+		String etag = gzip ? schedule.gzippedEtag() : schedule.etag();
+
+		if (matchesAny(ifNoneMatch, etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		}
+
+		// The cached arrays are written to the response as is, without copying
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.eTag(etag).cacheControl(CacheControl.noCache().cachePublic())
+				.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		if (gzip) {
+			return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(schedule.gzippedJson());
+		}
+		return response.body(schedule.json());
+	}
+
+	/**
+	 * Whether an {@code If-None-Match} header matches the current tag, comparing
+	 * weakly as RFC 9110 prescribes for it. The header may list several tags, and
+	 * {@code *} matches any current representation.
+	 */
+	private static boolean matchesAny(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		ETag current = ETag.create(etag);
+		return ETag.parse(ifNoneMatch).stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+	}
+
+	@Operation(security = @SecurityRequirement(name = "bearerAuth"))
+	@GetMapping("/matches/cache/stats")
+	public ResponseEntity<?> getPageCacheStats() {
+		CacheStats stats = matchPageCache.stats();
+
+		return ResponseEntity.ok(Map.of("hitCount", stats.hitCount(), "missCount", stats.missCount(), "hitRate",
+				stats.hitRate(), "evictionCount", stats.evictionCount(), "size", matchPageCache.size(),
+				"coalescedCount", matchPageCoalescer.coalescedCount()));
+	}
+
+	@GetMapping("/matches/slice")
+	public ResponseEntity<?> getMatchSlice(@RequestParam(defaultValue = "0") int page,
 			@RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "matchDate") String sortBy,
 			@RequestParam(defaultValue = "desc") String direction, @RequestParam(required = false) String owner,
 			@RequestParam(required = false) String sport,
 			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate matchDate) {
-		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, owner, sport,
+		Result<MatchSliceDTO> result = matchService.getMatchSlice(page, size, sortBy, direction, owner, sport,
 				matchDate);
 
 		if (result.isSuccess()) {
 			return ResponseEntity.ok(result.getValue());
 		} else {
-			return ResponseEntity.status(500).body(Collections.singletonMap("error", result.getError()));
+			return errorResponse("getMatchSlice", HttpStatus.INTERNAL_SERVER_ERROR, result);
+		}
+	}
+
+	@GetMapping("/matches/scroll")
+	public ResponseEntity<?> scrollMatches(@RequestParam(defaultValue = "10") int size,
+			@RequestParam(defaultValue = "matchDate") String sortBy,
+			@RequestParam(defaultValue = "desc") String direction, @RequestParam(required = false) String owner,
+			@RequestParam(required = false) String sport,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate matchDate,
+			@RequestParam(required = false) String cursor) {
+		Result<MatchScrollDTO> result = matchService.scrollMatches(size, sortBy, direction, owner, sport, matchDate,
+				cursor);
+
+		if (result.isSuccess()) {
+			return ResponseEntity.ok(result.getValue());
+		}
+
+		HttpStatus status = result.getError().toLowerCase().contains("invalid cursor")
+				? HttpStatus.BAD_REQUEST
+				: HttpStatus.INTERNAL_SERVER_ERROR;
+
+		return errorResponse("scrollMatches", status, result);
+	}
+
+	/**
+	 * Streams all matches matching the filters as NDJSON (one match per line, the
+	 * same shape as the listing) or CSV. Nothing is paged or buffered, so the
+	 * first rows go out as soon as the database returns them.
+	 */
+	@Operation(security = @SecurityRequirement(name = "bearerAuth"))
+	@GetMapping("/matches/export")
+	public void exportMatches(@RequestParam(defaultValue = "ndjson") String format,
+			@RequestParam(required = false) String owner, @RequestParam(required = false) String sport,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate matchDate,
+			HttpServletResponse response) throws IOException {
+		MatchFileFormat fileFormat;
+		try {
+			fileFormat = MatchFileFormat.fromString(format);
+		} catch (IllegalArgumentException e) {
+			response.setStatus(HttpStatus.BAD_REQUEST.value());
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			writeLine(response.getOutputStream(), Collections.singletonMap("error", e.getMessage()), true);
+			return;
+		}
+
+		boolean csv = fileFormat == MatchFileFormat.CSV;
+		response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"matches." + fileFormat.name().toLowerCase() + "\"");
+
+		OutputStream out = response.getOutputStream();
+		if (csv) {
+			out.write(EXPORT_CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+		}
+		// Headers go out before the query starts
+		response.flushBuffer();
+
+		Result<Long> result = matchService.exportMatches(owner, sport, matchDate, match -> {
+			if (csv) {
+				writeCsvLine(out, match);
+			} else {
+				writeLine(out, match, false);
+			}
+		});
+
+		// The status is already sent, so a failure can only be reported in the body
+		if (!result.isSuccess()) {
+			errorMetrics.increment("exportMatches", HttpStatus.INTERNAL_SERVER_ERROR);
+			writeLine(out, Collections.singletonMap("error", result.getError()), true);
 		}
 	}
 
@@ -57,8 +263,6 @@ public class MatchController {
 
 		String error = result.getError().toLowerCase();
 
-		Map<String, String> errorMap = Collections.singletonMap("error", result.getError());
-
 		HttpStatus status;
 		if (error.contains("already exists")) {
 			status = HttpStatus.CONFLICT;
@@ -68,7 +272,143 @@ public class MatchController {
 			status = HttpStatus.INTERNAL_SERVER_ERROR;
 		}
 
-		return ResponseEntity.status(status).body(errorMap);
+		return errorResponse("saveMatch", status, result);
+	}
+
+	@Operation(security = @SecurityRequirement(name = "bearerAuth"))
+	@PostMapping("saveMatches")
+	public ResponseEntity<?> saveMatches(@RequestBody List<SaveMatchRequest> saveMatchRequests) {
+		LOGGER.info("Received request to save {} matches", saveMatchRequests.size());
+
+		// Items are validated one by one in the service so that one bad item does not
+		// reject the whole batch
+		Result<List<MatchBatchItemDTO>> result = matchService.saveMatches(saveMatchRequests);
+
+		if (result.isSuccess()) {
+			return ResponseEntity.ok(result.getValue());
+		}
+
+		String error = result.getError().toLowerCase();
+
+		HttpStatus status = error.contains("invalid batch size")
+				? HttpStatus.BAD_REQUEST
+				: error.contains("unauthorized")
+						? HttpStatus.UNAUTHORIZED
+						: error.contains("already exists") ? HttpStatus.CONFLICT : HttpStatus.INTERNAL_SERVER_ERROR;
+
+		return errorResponse("saveMatches", status, result);
+	}
+
+	/**
+	 * Imports an NDJSON or CSV body of any size. The response is NDJSON: one
+	 * {@code rejected} line per rejected record, one {@code progress} line per
+	 * committed chunk and a final {@code done} line with the totals.
+	 */
+	@Operation(security = @SecurityRequirement(name = "bearerAuth"))
+	@PostMapping(value = "/matches/import", consumes = {"application/x-ndjson", "text/csv"})
+	public void importMatches(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		LOGGER.info("Received request to import matches as {}", contentType);
+
+		BufferedReader reader = new BufferedReader(
+				new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+
+		MatchFileFormat format = MatchFileFormat.fromContentType(contentType);
+
+		streamImport("importMatches", response,
+				listener -> matchImportService.importMatches(reader, format, listener));
+	}
+
+	@Operation(security = @SecurityRequirement(name = "bearerAuth"))
+	@PostMapping("/matches/import/file")
+	public void importMatchFile(@RequestParam String path, HttpServletResponse response) throws IOException {
+		LOGGER.info("Received request to import matches from file {}", path);
+
+		streamImport("importMatchFile", response, listener -> matchImportService.importFile(path, listener));
+	}
+
+	private void streamImport(String endpoint, HttpServletResponse response,
+			Function<MatchImportListener, Result<MatchImportProgressDTO>> importer) throws IOException {
+		response.setContentType("application/x-ndjson");
+		OutputStream out = response.getOutputStream();
+
+		Result<MatchImportProgressDTO> result = importer.apply(new MatchImportListener() {
+			@Override
+			public void onRejected(MatchImportRejectionDTO rejection) {
+				writeLine(out, Collections.singletonMap("rejected", rejection), false);
+			}
+
+			@Override
+			public void onProgress(MatchImportProgressDTO progress) {
+				writeLine(out, Collections.singletonMap("progress", progress), true);
+			}
+		});
+
+		if (result.isSuccess()) {
+			writeLine(out, Collections.singletonMap("done", result.getValue()), true);
+			return;
+		}
+
+		String error = result.getError().toLowerCase();
+		HttpStatus status = error.contains("not_found")
+				? HttpStatus.NOT_FOUND
+				: error.contains("invalid") || error.contains("disabled")
+						? HttpStatus.BAD_REQUEST
+						: error.contains("unauthorized") ? HttpStatus.UNAUTHORIZED : HttpStatus.INTERNAL_SERVER_ERROR;
+		errorMetrics.increment(endpoint, status);
+
+		// Before anything reached the client the failure can still get a proper status
+		if (!response.isCommitted()) {
+			response.resetBuffer();
+			response.setStatus(status.value());
+		}
+		writeLine(out, Collections.singletonMap("error", result.getError()), true);
+	}
+
+	private void writeCsvLine(OutputStream out, MatchDTO match) {
+		Map<Specifier, Double> odds = new EnumMap<>(Specifier.class);
+		match.getOdds().forEach(odd -> odds.put(odd.getSpecifier(), odd.getOdd()));
+
+		StringBuilder line = new StringBuilder(128);
+		for (Object value : new Object[]{match.getMatchId(), match.getMatchOwner(), match.getDescription(),
+				match.getMatchDate(), match.getMatchTime(), match.getTeamA(), match.getTeamB(), match.getSport(),
+				match.getVersion(), odds.get(Specifier.WIN), odds.get(Specifier.DRAW), odds.get(Specifier.LOSE)}) {
+			if (!line.isEmpty()) {
+				line.append(',');
+			}
+			appendCsvField(line, value);
+		}
+		line.append('\n');
+
+		try {
+			out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void appendCsvField(StringBuilder line, Object value) {
+		if (value == null) {
+			return;
+		}
+		String field = value.toString();
+		if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+			line.append(field);
+			return;
+		}
+		line.append('"').append(field.replace("\"", "\"\"")).append('"');
+	}
+
+	private void writeLine(OutputStream out, Object value, boolean flush) {
+		try {
+			out.write(objectMapper.writeValueAsBytes(value));
+			out.write('\n');
+			if (flush) {
+				out.flush();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	@Operation(security = @SecurityRequirement(name = "bearerAuth"))
@@ -84,11 +424,35 @@ public class MatchController {
 		}
 
 		String error = result.getError().toLowerCase();
-		Map<String, String> errorMap = Collections.singletonMap("error", result.getError());
 
 		HttpStatus status = error.contains("not found")
 				? HttpStatus.NOT_FOUND
-				: error.contains("duplicate")
+				: error.contains("duplicate") || error.contains("already exists")
+						? HttpStatus.CONFLICT
+						: error.contains("unauthorized")
+								? HttpStatus.UNAUTHORIZED
+								: error.contains("you do not have permission")
+										? HttpStatus.FORBIDDEN
+										: HttpStatus.INTERNAL_SERVER_ERROR;
+
+		return errorResponse("updateMatch", status, result);
+	}
+
+	@Operation(security = @SecurityRequirement(name = "bearerAuth"))
+	@PatchMapping("/matches/{matchId}/odds")
+	public ResponseEntity<?> updateMatchOdds(@PathVariable Long matchId,
+			@Valid @RequestBody UpdateOddsRequest updateOddsRequest) {
+		Result<MatchOddsDTO> result = matchService.updateMatchOdds(matchId, updateOddsRequest);
+
+		if (result.isSuccess()) {
+			return ResponseEntity.ok(result.getValue());
+		}
+
+		String error = result.getError().toLowerCase();
+
+		HttpStatus status = error.contains("not_found")
+				? HttpStatus.NOT_FOUND
+				: error.contains("conflict")
 						? HttpStatus.CONFLICT
 						: error.contains("unauthorized")
 								? HttpStatus.UNAUTHORIZED
@@ -96,7 +460,7 @@ public class MatchController {
 										? HttpStatus.FORBIDDEN
 										: HttpStatus.INTERNAL_SERVER_ERROR;
 
-		return ResponseEntity.status(status).body(errorMap);
+		return errorResponse("updateMatchOdds", status, result);
 	}
 
 	@Operation(security = @SecurityRequirement(name = "bearerAuth"))
@@ -111,7 +475,6 @@ public class MatchController {
 		}
 
 		String error = result.getError().toLowerCase();
-		Map<String, String> errorMap = Collections.singletonMap("error", result.getError());
 
 		HttpStatus status = error.contains("not_found")
 				? HttpStatus.NOT_FOUND
@@ -121,6 +484,11 @@ public class MatchController {
 								? HttpStatus.FORBIDDEN
 								: HttpStatus.INTERNAL_SERVER_ERROR;
 
-		return ResponseEntity.status(status).body(errorMap); // 500
+		return errorResponse("deleteMatch", status, result);
+	}
+
+	private ResponseEntity<?> errorResponse(String endpoint, HttpStatus status, Result<?> result) {
+		errorMetrics.increment(endpoint, status);
+		return ResponseEntity.status(status).body(Collections.singletonMap("error", result.getError()));
 	}
 }
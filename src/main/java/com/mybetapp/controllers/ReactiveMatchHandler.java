@@ -0,0 +1,109 @@
+package com.mybetapp.controllers;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.repositories.ReactiveMatchReader;
+import com.mybetapp.util.KickOffRange;
+import com.mybetapp.util.MatchFilterKey;
+import com.mybetapp.util.MatchSorts;
+import com.mybetapp.util.Result;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive twin of {@code GET /bet/matches}, served by the Netty server of
+ * {@link com.mybetapp.config.ReactiveMatchServer}. Takes the same parameters
+ * and returns the same matches in the same order as
+ * {@link MatchController#getPaginatedMatches}, in the same page envelope. A
+ * client that accepts {@code application/x-ndjson} gets the matches streamed
+ * one per line as they are read instead, without the page totals.
+ */
+@Component
+public class ReactiveMatchHandler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveMatchHandler.class);
+
+	private final ReactiveMatchReader matchReader;
+
+	public ReactiveMatchHandler(ReactiveMatchReader matchReader) {
+		this.matchReader = matchReader;
+	}
+
+	public Mono<ServerResponse> getPaginatedMatches(ServerRequest request) {
+		int page;
+		int size;
+		LocalDate matchDate;
+		LocalDateTime from;
+		LocalDateTime to;
+		Integer upcomingHours;
+		try {
+			page = Integer.parseInt(request.queryParam("page").orElse("0"));
+			size = Integer.parseInt(request.queryParam("size").orElse("10"));
+			matchDate = request.queryParam("matchDate").filter(date -> !date.isEmpty()).map(LocalDate::parse)
+					.orElse(null);
+			from = request.queryParam("from").filter(time -> !time.isEmpty()).map(LocalDateTime::parse).orElse(null);
+			to = request.queryParam("to").filter(time -> !time.isEmpty()).map(LocalDateTime::parse).orElse(null);
+			upcomingHours = request.queryParam("upcomingHours").filter(hours -> !hours.isEmpty())
+					.map(Integer::valueOf).orElse(null);
+		} catch (NumberFormatException | DateTimeParseException e) {
+			return ServerResponse.badRequest().contentType(MediaType.APPLICATION_JSON)
+					.bodyValue(Collections.singletonMap("error", "Invalid request parameter: " + e.getMessage()));
+		}
+
+		String sortBy = request.queryParam("sortBy").orElse("matchDate");
+		String direction = request.queryParam("direction").orElse("desc");
+		String owner = request.queryParam("owner").orElse(null);
+		String sport = request.queryParam("sport").orElse(null);
+
+		LOGGER.info(
+				"Streaming paginated matches with filters - page: {}, size: {}, sortBy: {}, direction: {}, owner: {}, sport: {}, matchDate: {}, from: {}, to: {}, upcomingHours: {}",
+				page, size, sortBy, direction, owner, sport, matchDate, from, to, upcomingHours);
+
+		Result<KickOffRange> range = KickOffRange.of(from, to, upcomingHours);
+		if (!range.isSuccess()) {
+			return ServerResponse.badRequest().contentType(MediaType.APPLICATION_JSON)
+					.bodyValue(Collections.singletonMap("error", range.getError()));
+		}
+
+		Pageable pageable;
+		MatchFilterKey filter;
+		try {
+			pageable = PageRequest.of(page, size, MatchSorts.of(sortBy, direction));
+			filter = MatchFilterKey.of(owner == null ? null : owner.trim().toLowerCase(Locale.ROOT), sport, matchDate)
+					.withRange(range.getValue().from(), range.getValue().to());
+		} catch (IllegalArgumentException e) {
+			return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.APPLICATION_JSON)
+					.bodyValue(Collections.singletonMap("error", "Failed to fetch paginated matches: " + e.getMessage()));
+		}
+
+		Flux<MatchDTO> matches = matchReader.findMatchPage(filter, pageable)
+				.doOnError(e -> LOGGER.error("Error streaming paginated matches", e));
+
+		if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+			// Headers go out with the first match, so a failure before it still turns into a 500
+			return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(matches, MatchDTO.class);
+		}
+
+		// The page and its count run concurrently on separate connections
+		return Mono.zip(matches.collectList(), matchReader.countMatches(filter))
+				.flatMap(pageAndTotal -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+						.bodyValue(new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2())))
+				.onErrorResume(e -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+						.contentType(MediaType.APPLICATION_JSON).bodyValue(Collections.singletonMap("error",
+								"Failed to fetch paginated matches: " + e.getMessage())));
+	}
+}
@@ -0,0 +1,181 @@
+package com.mybetapp.dataset;
+
+import com.mybetapp.dataset.SyntheticMatchGenerator.SyntheticMatch;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bulk-loads generated matches and odds through PostgreSQL {@code COPY FROM
+ * STDIN}, bypassing Hibernate entirely. Works against any PostgreSQL the
+ * DataSource points at: the production-like database, a local instance or a
+ * Testcontainers stand-in.
+ *
+ * <p>
+ * Ids are reserved from the Hibernate sequences up front, each in a short
+ * transaction that holds the sequence lock, so the application can keep
+ * inserting while or after the loader runs without id collisions.
+ */
+public class CopyMatchLoader {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CopyMatchLoader.class);
+
+	private static final String COPY_MATCHES = "COPY matches (id, owner, description, match_date, match_time, team_a, "
+			+ "team_b, sport, version) FROM STDIN (FORMAT csv)";
+	private static final String COPY_ODDS = "COPY match_odds (id, match_id, specifier, odd) FROM STDIN (FORMAT csv)";
+
+	private static final String[] SPECIFIERS = {"WIN", "DRAW", "LOSE"};
+
+	// Bytes buffered before each writeToCopy call
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+	private final DataSource dataSource;
+	private final int chunkSize;
+
+	public CopyMatchLoader(DataSource dataSource, int chunkSize) {
+		this.dataSource = dataSource;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Generates and loads {@code spec.matches()} matches with three odds each,
+	 * committing every {@code chunkSize} matches.
+	 *
+	 * @return the id of the first loaded match; the rest follow consecutively in
+	 *         generator index order
+	 */
+	public long load(SyntheticMatchGenerator generator) throws SQLException {
+		long count = generator.spec().matches();
+		long start = System.nanoTime();
+
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+			// Committed one at a time, so the loader never holds one sequence lock while
+			// waiting for the other
+			long firstMatchId = reserveIds(connection, "matches_seq", count);
+			connection.commit();
+			long firstOddsId = reserveIds(connection, "match_odds_seq", count * SPECIFIERS.length);
+			connection.commit();
+
+			for (long from = 0; from < count; from += chunkSize) {
+				long to = Math.min(count, from + chunkSize);
+
+				copyMatches(copyManager, generator, from, to, firstMatchId);
+				copyOdds(copyManager, generator, from, to, firstMatchId, firstOddsId);
+				connection.commit();
+
+				LOGGER.info("Loaded {} of {} synthetic matches", to, count);
+			}
+
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("analyze matches");
+				statement.execute("analyze match_odds");
+			}
+			connection.commit();
+
+			LOGGER.info("Loaded {} synthetic matches in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+			return firstMatchId;
+		}
+	}
+
+	/**
+	 * Moves the sequence past {@code count} ids and returns the first of them.
+	 * Hibernate's pooled optimizer treats a sequence value as the top of a block,
+	 * so no block handed out before or after this call overlaps the reserved range.
+	 * The caller commits to release the sequence lock.
+	 */
+	private long reserveIds(Connection connection, String sequence, long count) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			// A no-op change that locks the sequence: a concurrent nextval waits until the
+			// commit instead of landing between the nextval and setval below
+			statement.execute("alter sequence " + sequence + " no cycle");
+		}
+
+		long current;
+		try (PreparedStatement statement = connection.prepareStatement("select nextval(cast(? as regclass))")) {
+			statement.setString(1, sequence);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				current = resultSet.getLong(1);
+			}
+		}
+
+		try (PreparedStatement statement = connection.prepareStatement("select setval(cast(? as regclass), ?)")) {
+			statement.setString(1, sequence);
+			statement.setLong(2, current + count);
+			statement.executeQuery().close();
+		}
+
+		return current + 1;
+	}
+
+	private void copyMatches(CopyManager copyManager, SyntheticMatchGenerator generator, long from, long to,
+			long firstMatchId) throws SQLException {
+		CopyIn copyIn = copyManager.copyIn(COPY_MATCHES);
+		try {
+			StringBuilder rows = new StringBuilder(COPY_BUFFER_SIZE + 256);
+			for (long index = from; index < to; index++) {
+				SyntheticMatch match = generator.match(index);
+				// Generated values never contain commas, quotes or line breaks
+				rows.append(firstMatchId + index).append(',').append(match.owner()).append(',')
+						.append(match.description()).append(',').append(match.matchDate()).append(',')
+						.append(match.matchTime()).append(',').append(match.teamA()).append(',').append(match.teamB())
+						.append(',').append(match.sport().name()).append(",0\n");
+				flushIfFull(copyIn, rows);
+			}
+			flush(copyIn, rows);
+			copyIn.endCopy();
+		} finally {
+			if (copyIn.isActive()) {
+				copyIn.cancelCopy();
+			}
+		}
+	}
+
+	private void copyOdds(CopyManager copyManager, SyntheticMatchGenerator generator, long from, long to,
+			long firstMatchId, long firstOddsId) throws SQLException {
+		CopyIn copyIn = copyManager.copyIn(COPY_ODDS);
+		try {
+			StringBuilder rows = new StringBuilder(COPY_BUFFER_SIZE + 256);
+			for (long index = from; index < to; index++) {
+				// Regenerated from the same index rather than kept from the matches pass
+				SyntheticMatch match = generator.match(index);
+				double[] odds = {match.win(), match.draw(), match.lose()};
+				for (int i = 0; i < SPECIFIERS.length; i++) {
+					rows.append(firstOddsId + index * SPECIFIERS.length + i).append(',').append(firstMatchId + index)
+							.append(',').append(SPECIFIERS[i]).append(',').append(odds[i]).append('\n');
+				}
+				flushIfFull(copyIn, rows);
+			}
+			flush(copyIn, rows);
+			copyIn.endCopy();
+		} finally {
+			if (copyIn.isActive()) {
+				copyIn.cancelCopy();
+			}
+		}
+	}
+
+	private void flushIfFull(CopyIn copyIn, StringBuilder rows) throws SQLException {
+		if (rows.length() >= COPY_BUFFER_SIZE) {
+			flush(copyIn, rows);
+		}
+	}
+
+	private void flush(CopyIn copyIn, StringBuilder rows) throws SQLException {
+		byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+		copyIn.writeToCopy(bytes, 0, bytes.length);
+		rows.setLength(0);
+	}
+}
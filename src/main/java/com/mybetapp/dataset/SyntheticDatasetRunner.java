@@ -0,0 +1,39 @@
+package com.mybetapp.dataset;
+
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads a synthetic dataset at startup when {@code mybetapp.dataset.load=true}.
+ * Meant for capacity planning against a scratch database, never production.
+ */
+@Component
+@ConditionalOnProperty(name = "mybetapp.dataset.load", havingValue = "true")
+public class SyntheticDatasetRunner implements ApplicationRunner {
+
+	private final CopyMatchLoader loader;
+	private final SyntheticMatchGenerator generator;
+
+	public SyntheticDatasetRunner(DataSource dataSource, @Value("${mybetapp.dataset.matches:1000000}") long matches,
+			@Value("${mybetapp.dataset.owners:1000}") int owners, @Value("${mybetapp.dataset.teams:400}") int teams,
+			@Value("${mybetapp.dataset.first-date:2020-01-01}") LocalDate firstDate,
+			@Value("${mybetapp.dataset.days:2190}") int days,
+			@Value("${mybetapp.dataset.basketball-share:0.4}") double basketballShare,
+			@Value("${mybetapp.dataset.min-odd:1.05}") double minOdd,
+			@Value("${mybetapp.dataset.max-odd:12.0}") double maxOdd, @Value("${mybetapp.dataset.seed:42}") long seed,
+			@Value("${mybetapp.dataset.chunk-size:100000}") int chunkSize) {
+		this.loader = new CopyMatchLoader(dataSource, chunkSize);
+		this.generator = new SyntheticMatchGenerator(new SyntheticDatasetSpec(matches, owners, teams, firstDate, days,
+				basketballShare, minOdd, maxOdd, seed));
+	}
+
+	@Override
+	public void run(ApplicationArguments args) throws Exception {
+		loader.load(generator);
+	}
+}
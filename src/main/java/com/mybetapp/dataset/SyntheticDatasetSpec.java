@@ -0,0 +1,55 @@
+package com.mybetapp.dataset;
+
+import java.time.LocalDate;
+
+/**
+ * Shape of a generated dataset. Matches are spread evenly over {@code days}
+ * starting at {@code firstDate}; owners, sports and odds are drawn from a
+ * random stream seeded per match, so the same spec always yields the same rows.
+ *
+ * @param matches
+ *            number of matches to generate
+ * @param owners
+ *            number of distinct owners ({@code owner0} .. {@code ownerN-1})
+ * @param teams
+ *            number of distinct team names; bounds the pairings available per
+ *            kick-off slot
+ * @param firstDate
+ *            date of the first match day
+ * @param days
+ *            number of match days the matches are spread over
+ * @param basketballShare
+ *            fraction of matches that are basketball, the rest football
+ * @param minOdd
+ *            lower bound of generated odds
+ * @param maxOdd
+ *            upper bound of generated odds
+ * @param seed
+ *            base seed of the per-match random streams
+ */
+public record SyntheticDatasetSpec(long matches, int owners, int teams, LocalDate firstDate, int days,
+		double basketballShare, double minOdd, double maxOdd, long seed) {
+
+	public SyntheticDatasetSpec {
+		if (matches <= 0 || owners <= 0 || days <= 0) {
+			throw new IllegalArgumentException("matches, owners and days must be positive");
+		}
+		if (teams < 2) {
+			throw new IllegalArgumentException("At least two teams are needed");
+		}
+		if (basketballShare < 0 || basketballShare > 1) {
+			throw new IllegalArgumentException("basketballShare must be between 0 and 1");
+		}
+		if (minOdd < 1 || maxOdd < minOdd) {
+			throw new IllegalArgumentException("Odds range must satisfy 1 <= minOdd <= maxOdd");
+		}
+		if (matchesPerDay(matches, days) > SyntheticMatchGenerator.SLOTS_PER_DAY * (long) teams * (teams - 1)) {
+			throw new IllegalArgumentException("Too many matches per day for " + teams
+					+ " teams; add teams or days so every match keeps a unique team pairing and kick-off");
+		}
+	}
+
+	static long matchesPerDay(long matches, int days) {
+		return (matches + days - 1) / days;
+	}
+}
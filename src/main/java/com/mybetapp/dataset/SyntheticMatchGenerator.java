@@ -0,0 +1,68 @@
+package com.mybetapp.dataset;
+
+import com.mybetapp.enums.Sport;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic source of synthetic matches. Every match is a pure function of
+ * its index and the spec seed, so rows can be generated in any order, in
+ * chunks, or twice (once for matches, once for their odds) without keeping
+ * anything in memory.
+ *
+ * <p>
+ * The index also fixes the match's day, kick-off slot and team pairing, which
+ * keeps (teamA, teamB, matchDate, matchTime) unique across the whole dataset.
+ */
+public class SyntheticMatchGenerator {
+
+	// Kick-offs every 15 minutes from 10:00 to 23:45
+	static final int SLOTS_PER_DAY = 56;
+	private static final LocalTime FIRST_KICK_OFF = LocalTime.of(10, 0);
+	private static final int SLOT_MINUTES = 15;
+
+	private static final long SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+	private final SyntheticDatasetSpec spec;
+	private final long matchesPerDay;
+
+	public SyntheticMatchGenerator(SyntheticDatasetSpec spec) {
+		this.spec = spec;
+		this.matchesPerDay = SyntheticDatasetSpec.matchesPerDay(spec.matches(), spec.days());
+	}
+
+	public SyntheticDatasetSpec spec() {
+		return spec;
+	}
+
+	public SyntheticMatch match(long index) {
+		SplittableRandom random = new SplittableRandom(spec.seed() * SEED_MULTIPLIER + index);
+
+		long day = index / matchesPerDay;
+		long indexInDay = index % matchesPerDay;
+		int slot = (int) (indexInDay % SLOTS_PER_DAY);
+		long pairing = indexInDay / SLOTS_PER_DAY;
+		// pairing < teams * (teams - 1), so this maps every pairing to a distinct
+		// ordered pair of different teams
+		int teamA = (int) (pairing % spec.teams());
+		int teamB = (int) ((teamA + 1 + pairing / spec.teams()) % spec.teams());
+
+		Sport sport = random.nextDouble() < spec.basketballShare() ? Sport.BASKETBALL : Sport.FOOTBALL;
+
+		return new SyntheticMatch(index, "owner" + random.nextInt(spec.owners()), "MATCH " + index,
+				spec.firstDate().plusDays(day), FIRST_KICK_OFF.plusMinutes((long) slot * SLOT_MINUTES),
+				"TEAM " + teamA, "TEAM " + teamB, sport, odd(random), odd(random), odd(random));
+	}
+
+	private double odd(SplittableRandom random) {
+		double odd = spec.minOdd() == spec.maxOdd()
+				? spec.minOdd()
+				: random.nextDouble(spec.minOdd(), spec.maxOdd());
+		return Math.round(odd * 100) / 100.0;
+	}
+
+	public record SyntheticMatch(long index, String owner, String description, LocalDate matchDate,
+			LocalTime matchTime, String teamA, String teamB, Sport sport, double win, double draw, double lose) {
+	}
+}
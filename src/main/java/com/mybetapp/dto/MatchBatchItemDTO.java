@@ -0,0 +1,21 @@
+package com.mybetapp.dto;
+
+import com.mybetapp.enums.BatchItemStatus;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class MatchBatchItemDTO {
+
+	// Position of the item in the submitted list
+	private int index;
+	private BatchItemStatus status;
+	private Long matchId;
+	private List<String> errors;
+}
@@ -24,5 +24,20 @@ public class MatchDTO {
 	private String teamA;
 	private String teamB;
 	private Sport sport;
+	private Long version;
 	private List<MatchOdds> odds;
+
+	// Used by JPQL/Criteria constructor expressions; odds are attached afterwards
+	public MatchDTO(Long matchId, String matchOwner, String description, LocalDate matchDate, LocalTime matchTime,
+			String teamA, String teamB, Sport sport, Long version) {
+		this.matchId = matchId;
+		this.matchOwner = matchOwner;
+		this.description = description;
+		this.matchDate = matchDate;
+		this.matchTime = matchTime;
+		this.teamA = teamA;
+		this.teamB = teamB;
+		this.sport = sport;
+		this.version = version;
+	}
 }
@@ -0,0 +1,26 @@
+package com.mybetapp.dto;
+
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+/**
+ * One row of the export query: a match joined to one of its odds. A match with
+ * no odds yields a single row with a {@code null} specifier and odd.
+ */
+public record MatchExportRow(Long matchId, String owner, String description, LocalDate matchDate,
+		LocalTime matchTime, String teamA, String teamB, Sport sport, Long version, Specifier specifier, Double odd) {
+
+	public MatchDTO toMatchDTO() {
+		MatchDTO matchDTO = new MatchDTO(matchId, owner, description, matchDate, matchTime, teamA, teamB, sport,
+				version);
+		matchDTO.setOdds(new ArrayList<>(3));
+		return matchDTO;
+	}
+
+	public MatchOddsRow toMatchOddsRow() {
+		return new MatchOddsRow(matchId, specifier, odd);
+	}
+}
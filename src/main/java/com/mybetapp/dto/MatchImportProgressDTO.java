@@ -0,0 +1,18 @@
+package com.mybetapp.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class MatchImportProgressDTO {
+
+	// Non-blank records read so far, excluding the CSV header
+	private long records;
+	private long created;
+	private long rejected;
+}
@@ -0,0 +1,22 @@
+package com.mybetapp.dto;
+
+import com.mybetapp.enums.BatchItemStatus;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class MatchImportRejectionDTO {
+
+	// 1-based line number in the imported file, counting the CSV header
+	private long line;
+	private BatchItemStatus status;
+	private List<String> errors;
+}
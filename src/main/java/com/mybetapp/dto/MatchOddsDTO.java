@@ -0,0 +1,19 @@
+package com.mybetapp.dto;
+
+import com.mybetapp.models.MatchOdds;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class MatchOddsDTO {
+
+	private Long matchId;
+	private Long version;
+	private List<MatchOdds> odds;
+}
@@ -0,0 +1,18 @@
+package com.mybetapp.dto;
+
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.models.MatchOdds;
+
+/**
+ * Read-only projection of a match_odds row, selected without hydrating the
+ * MatchOdds entity.
+ */
+public record MatchOddsRow(Long matchId, Specifier specifier, Double odd) {
+
+	public MatchOdds toMatchOdds() {
+		MatchOdds matchOdds = new MatchOdds();
+		matchOdds.setSpecifier(specifier);
+		matchOdds.setOdd(odd);
+		return matchOdds;
+	}
+}
@@ -0,0 +1,18 @@
+package com.mybetapp.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class MatchScrollDTO {
+
+	private List<MatchDTO> content;
+	private String nextCursor; // null when there is no next page
+	private boolean hasNext;
+}
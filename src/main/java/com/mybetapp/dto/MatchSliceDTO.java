@@ -0,0 +1,19 @@
+package com.mybetapp.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class MatchSliceDTO {
+
+	private List<MatchDTO> content;
+	private int page;
+	private int size;
+	private boolean hasNext;
+}
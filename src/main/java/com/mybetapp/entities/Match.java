@@ -13,15 +13,29 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "matches") // "match" is a reserved keyword in some DBs
+// "match" is a reserved keyword in some DBs
+@Table(name = "matches", indexes = {
+		// Backs the keyset seek on (matchDate, matchTime, id)
+		@Index(name = "idx_matches_date_time_id", columnList = "matchDate, matchTime, id"),
+		// Owner and sport filters, each followed by the keyset order the listings sort on
+		@Index(name = "idx_matches_owner_date_time_id", columnList = "owner, matchDate, matchTime, id"),
+		@Index(name = "idx_matches_sport_date_time_id", columnList = "sport, matchDate, matchTime, id")},
+		uniqueConstraints = {
+				// One match per fixture; saveMatch relies on it instead of checking first
+				@UniqueConstraint(name = Match.FIXTURE_CONSTRAINT, columnNames = {"team_a", "team_b", "match_date",
+						"match_time", "sport"})})
 @Getter
 @Setter
 @NoArgsConstructor
 @ToString
 public class Match {
 
+	public static final String FIXTURE_CONSTRAINT = "uk_matches_fixture";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// Sequence ids (pooled by 50) let Hibernate batch inserts, which IDENTITY rules out
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matches_seq")
+	@SequenceGenerator(name = "matches_seq", sequenceName = "matches_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false)
@@ -35,15 +49,21 @@ public class Match {
 	@Column(nullable = false)
 	private LocalTime matchTime;
 
-	@Column(nullable = false)
+	// Named explicitly: the default naming strategy puts no underscore before a
+	// trailing capital, and the COPY loader and R2DBC reader use team_a/team_b
+	@Column(name = "team_a", nullable = false)
 	private String teamA;
 
-	@Column(nullable = false)
+	@Column(name = "team_b", nullable = false)
 	private String teamB;
 
 	@Enumerated(EnumType.STRING)
 	private Sport sport;
 
+	// Guards full updates against lost writes; the odds-only PATCH bumps it by hand
+	@Version
+	private Long version;
+
 	@OneToMany(mappedBy = "match", cascade = CascadeType.ALL, orphanRemoval = true)
 	@JsonManagedReference
 	private List<MatchOdds> odds = new ArrayList<>();
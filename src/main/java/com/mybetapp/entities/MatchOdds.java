@@ -3,13 +3,18 @@ package com.mybetapp.entities;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.mybetapp.enums.Specifier;
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "match_odds")
+@Table(name = "match_odds", indexes = {
+		// Postgres does not index foreign keys; odds lookups, the export join and the
+		// delete cascade all go through match_id
+		@Index(name = "idx_match_odds_match_id", columnList = "match_id")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,12 +22,15 @@ import lombok.ToString;
 public class MatchOdds {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// Sequence ids (pooled by 50) let Hibernate batch inserts, which IDENTITY rules out
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_odds_seq")
+	@SequenceGenerator(name = "match_odds_seq", sequenceName = "match_odds_seq", allocationSize = 50)
 	private Long id;
 
 	// In MatchOdds.java
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "match_id", nullable = false)
+	@OnDelete(action = OnDeleteAction.CASCADE) // lets a single DELETE on matches remove the odds too
 	@JsonBackReference
 	private Match match;
 
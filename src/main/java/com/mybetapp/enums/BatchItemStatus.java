@@ -0,0 +1,5 @@
+package com.mybetapp.enums;
+
+public enum BatchItemStatus {
+	CREATED, INVALID, DUPLICATE,
+}
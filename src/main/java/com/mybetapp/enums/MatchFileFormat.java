@@ -0,0 +1,27 @@
+package com.mybetapp.enums;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum MatchFileFormat {
+	NDJSON, CSV;
+
+	public static MatchFileFormat fromString(String value) {
+		for (MatchFileFormat format : MatchFileFormat.values()) {
+			if (format.name().equalsIgnoreCase(value)) {
+				return format;
+			}
+		}
+
+		throw new IllegalArgumentException("Invalid format value: " + value + ". Allowed values are: "
+				+ Arrays.stream(MatchFileFormat.values()).map(Enum::name).collect(Collectors.joining(" or ")) + ".");
+	}
+
+	public static MatchFileFormat fromContentType(String contentType) {
+		return contentType != null && contentType.toLowerCase().contains("csv") ? CSV : NDJSON;
+	}
+
+	public static MatchFileFormat fromFileName(String fileName) {
+		return fileName.toLowerCase().endsWith(".csv") ? CSV : NDJSON;
+	}
+}
@@ -7,9 +7,12 @@ import java.util.stream.Collectors;
 public enum Specifier {
 	WIN, DRAW, LOSE;
 
+	// values() clones its array on every call, and this runs once per parsed specifier
+	private static final Specifier[] VALUES = values();
+
 	@JsonCreator
 	public static Specifier fromString(String value) {
-		for (Specifier specifier : Specifier.values()) {
+		for (Specifier specifier : VALUES) {
 			if (specifier.name().equalsIgnoreCase(value)) {
 				return specifier;
 			}
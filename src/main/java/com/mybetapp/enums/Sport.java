@@ -7,9 +7,12 @@ import java.util.stream.Collectors;
 public enum Sport {
 	FOOTBALL, BASKETBALL;
 
+	// values() clones its array on every call, and this runs once per parsed sport
+	private static final Sport[] VALUES = values();
+
 	@JsonCreator
 	public static Sport fromString(String value) {
-		for (Sport sport : Sport.values()) {
+		for (Sport sport : VALUES) {
 			if (sport.name().equalsIgnoreCase(value)) {
 				return sport;
 			}
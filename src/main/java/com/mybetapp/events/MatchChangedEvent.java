@@ -0,0 +1,16 @@
+package com.mybetapp.events;
+
+import com.mybetapp.util.MatchFilterKey;
+import java.util.List;
+
+/**
+ * Published after a match was created, updated or deleted.
+ *
+ * @param matchId
+ *            the id of the changed match
+ * @param affectedKeys
+ *            the filter keys of the match before and after the change; listings
+ *            covering one of them may have gained or lost a row
+ */
+public record MatchChangedEvent(Long matchId, List<MatchFilterKey> affectedKeys) {
+}
@@ -0,0 +1,41 @@
+package com.mybetapp.jfr;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.SmartValidator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Hooks the request lifecycle into JDK Flight Recorder. The events cost next to
+ * nothing while no recording is running; {@code jfr/mybetapp.jfc} enables them.
+ */
+@Configuration
+public class FlightRecorderConfig implements WebMvcConfigurer {
+
+	private static final String MVC_VALIDATOR = "mvcValidator";
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new MatchRequestEventInterceptor()).addPathPatterns("/bet/**");
+	}
+
+	/**
+	 * Decorates the validator Spring MVC binds request bodies with, instead of
+	 * replacing it, so whatever validator the application configures keeps doing
+	 * the validation.
+	 */
+	@Bean
+	static BeanPostProcessor phaseEventValidatorPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (MVC_VALIDATOR.equals(beanName) && bean instanceof SmartValidator validator) {
+					return new PhaseEventValidator(validator);
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,34 @@
+package com.mybetapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Decoding and validating one bearer token, including any JWK set fetch it
+ * triggers. Tokens answered from the validated-token cache are not recorded.
+ */
+@Name("com.mybetapp.JwtDecode")
+@Label("JWT Decode")
+@Category({"My Bet App", "Security"})
+@Description("Decoding and validating a bearer token")
+@StackTrace(false)
+public class JwtDecodeEvent extends Event {
+
+	@Label("Valid")
+	private boolean valid;
+
+	public static JwtDecodeEvent start() {
+		JwtDecodeEvent event = new JwtDecodeEvent();
+		event.begin();
+		return event;
+	}
+
+	public void end(boolean valid) {
+		this.valid = valid;
+		commit();
+	}
+}
@@ -0,0 +1,74 @@
+package com.mybetapp.jfr;
+
+import com.mybetapp.util.MatchFilterKey;
+import java.time.LocalDate;
+import java.util.StringJoiner;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One match listing query, with the set of filters it ran with (not their
+ * values) and how many rows it returned.
+ */
+@Name("com.mybetapp.MatchQuery")
+@Label("Match Query")
+@Category({"My Bet App", "Repository"})
+@Description("A MatchRepository query issued by the match service")
+@StackTrace(false)
+public class MatchQueryEvent extends Event {
+
+	// Indexed by MatchFilterKey.mask(), so no string is built per query
+	private static final String[] FILTER_SHAPES = new String[32];
+
+	static {
+		String[] filters = {"owner", "sport", "matchDate", "from", "to"};
+		for (int mask = 0; mask < FILTER_SHAPES.length; mask++) {
+			StringJoiner shape = new StringJoiner("+").setEmptyValue("none");
+			for (int filter = 0; filter < filters.length; filter++) {
+				if ((mask & 1 << filter) != 0) {
+					shape.add(filters[filter]);
+				}
+			}
+			FILTER_SHAPES[mask] = shape.toString();
+		}
+	}
+
+	@Label("Query")
+	@Description("Repository method")
+	private String query;
+
+	@Label("Filter")
+	@Description("Filters applied, e.g. owner+sport")
+	private String filter;
+
+	@Label("Rows")
+	private long rows;
+
+	public static MatchQueryEvent start(String query, String filter) {
+		MatchQueryEvent event = new MatchQueryEvent();
+		event.query = query;
+		event.filter = filter;
+		event.begin();
+		return event;
+	}
+
+	public static String filterShape(String owner, String sport, LocalDate matchDate) {
+		int shape = (owner == null || owner.isEmpty() ? 0 : MatchFilterKey.OWNER)
+				| (sport == null || sport.isEmpty() ? 0 : MatchFilterKey.SPORT)
+				| (matchDate == null ? 0 : MatchFilterKey.MATCH_DATE);
+		return FILTER_SHAPES[shape];
+	}
+
+	public static String filterShape(MatchFilterKey filter) {
+		return FILTER_SHAPES[filter.mask()];
+	}
+
+	public void end(long rows) {
+		this.rows = rows;
+		commit();
+	}
+}
@@ -0,0 +1,44 @@
+package com.mybetapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code /bet/**} request, from the controller being picked until the
+ * response is complete (streamed bodies included). The phase and query events
+ * recorded on the same thread within its duration break it down.
+ */
+@Name("com.mybetapp.MatchRequest")
+@Label("Match Request")
+@Category({"My Bet App", "Requests"})
+@Description("A /bet/** request from controller entry to exit")
+@StackTrace(false)
+public class MatchRequestEvent extends Event {
+
+	@Label("Method")
+	private String method;
+
+	@Label("Endpoint")
+	@Description("URI template of the handler, e.g. /bet/matches/{matchId}/odds")
+	private String endpoint;
+
+	@Label("Status")
+	private int status;
+
+	public static MatchRequestEvent start(String method) {
+		MatchRequestEvent event = new MatchRequestEvent();
+		event.method = method;
+		event.begin();
+		return event;
+	}
+
+	public void end(String endpoint, int status) {
+		this.endpoint = endpoint;
+		this.status = status;
+		commit();
+	}
+}
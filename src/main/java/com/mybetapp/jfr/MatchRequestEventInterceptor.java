@@ -0,0 +1,30 @@
+package com.mybetapp.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records a {@link MatchRequestEvent} around every handled request it is
+ * registered for.
+ */
+class MatchRequestEventInterceptor implements HandlerInterceptor {
+
+	private static final String EVENT_ATTRIBUTE = MatchRequestEventInterceptor.class.getName() + ".event";
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		request.setAttribute(EVENT_ATTRIBUTE, MatchRequestEvent.start(request.getMethod()));
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		if (request.getAttribute(EVENT_ATTRIBUTE) instanceof MatchRequestEvent event) {
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			event.end(pattern == null ? request.getRequestURI() : pattern.toString(), response.getStatus());
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.mybetapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One phase of a write in {@link com.mybetapp.services.MatchServiceImpl}:
+ * {@code validation}, {@code duplicate-check}, {@code mapping},
+ * {@code persistence} or {@code dto-mapping}. New matches get their ids from
+ * the pooled sequence, so their INSERTs run when the transaction commits, after
+ * the {@code persistence} phase and before the request event ends.
+ */
+@Name("com.mybetapp.MatchServicePhase")
+@Label("Match Service Phase")
+@Category({"My Bet App", "Service"})
+@Description("A phase of saving or updating matches")
+@StackTrace(false)
+public class MatchServicePhaseEvent extends Event {
+
+	public static final String VALIDATION = "validation";
+	public static final String DUPLICATE_CHECK = "duplicate-check";
+	public static final String MAPPING = "mapping";
+	public static final String PERSISTENCE = "persistence";
+	public static final String DTO_MAPPING = "dto-mapping";
+
+	@Label("Operation")
+	@Description("Service method, or the request type for bean validation of a request body")
+	private String operation;
+
+	@Label("Phase")
+	private String phase;
+
+	public static MatchServicePhaseEvent start(String operation, String phase) {
+		MatchServicePhaseEvent event = new MatchServicePhaseEvent();
+		event.operation = operation;
+		event.phase = phase;
+		event.begin();
+		return event;
+	}
+}
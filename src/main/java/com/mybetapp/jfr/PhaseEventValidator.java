@@ -0,0 +1,39 @@
+package com.mybetapp.jfr;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Records the {@code @Valid} check of a request body as a
+ * {@link MatchServicePhaseEvent#VALIDATION} phase, so single-match writes show
+ * their validation cost like batch saves do.
+ */
+class PhaseEventValidator implements SmartValidator {
+
+	private final SmartValidator delegate;
+
+	PhaseEventValidator(SmartValidator delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public boolean supports(Class<?> clazz) {
+		return delegate.supports(clazz);
+	}
+
+	@Override
+	public void validate(Object target, Errors errors) {
+		MatchServicePhaseEvent event = MatchServicePhaseEvent.start(target.getClass().getSimpleName(),
+				MatchServicePhaseEvent.VALIDATION);
+		delegate.validate(target, errors);
+		event.commit();
+	}
+
+	@Override
+	public void validate(Object target, Errors errors, Object... validationHints) {
+		MatchServicePhaseEvent event = MatchServicePhaseEvent.start(target.getClass().getSimpleName(),
+				MatchServicePhaseEvent.VALIDATION);
+		delegate.validate(target, errors, validationHints);
+		event.commit();
+	}
+}
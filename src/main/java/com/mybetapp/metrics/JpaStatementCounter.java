@@ -0,0 +1,35 @@
+package com.mybetapp.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate statement inspector that counts the SQL statements prepared on the
+ * current thread between {@link #start()} and {@link #stop()}. Statements are
+ * passed through unchanged, and threads without an open count (scheduled work,
+ * startup) are not tracked. A JDBC batch counts once, as it is prepared once.
+ */
+@Component
+public class JpaStatementCounter implements StatementInspector {
+
+	private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+	public void start() {
+		count.set(new int[1]);
+	}
+
+	public int stop() {
+		int[] current = count.get();
+		count.remove();
+		return current == null ? 0 : current[0];
+	}
+
+	@Override
+	public String inspect(String sql) {
+		int[] current = count.get();
+		if (current != null) {
+			current[0]++;
+		}
+		return sql;
+	}
+}
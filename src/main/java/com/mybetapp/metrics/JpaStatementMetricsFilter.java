@@ -0,0 +1,51 @@
+package com.mybetapp.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL statements each {@code /bet/**} request ran
+ * ({@code mybetapp.jpa.statements}), tagged with the same method and URI
+ * template as {@code http.server.requests}, so a slow endpoint can be checked
+ * for N+1 queries without turning on SQL logging.
+ */
+@Component
+public class JpaStatementMetricsFilter extends OncePerRequestFilter {
+
+	private final JpaStatementCounter statementCounter;
+	private final MeterRegistry meterRegistry;
+
+	public JpaStatementMetricsFilter(JpaStatementCounter statementCounter, MeterRegistry meterRegistry) {
+		this.statementCounter = statementCounter;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !request.getServletPath().startsWith("/bet/");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		statementCounter.start();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			int statements = statementCounter.stop();
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			DistributionSummary.builder("mybetapp.jpa.statements").description("SQL statements run per request")
+					.baseUnit("statements").tag("method", request.getMethod())
+					.tag("uri", pattern == null ? "UNKNOWN" : pattern.toString()).publishPercentileHistogram()
+					.minimumExpectedValue(1.0).maximumExpectedValue(1000.0).register(meterRegistry).record(statements);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.mybetapp.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts failed {@link com.mybetapp.util.Result}s per endpoint, grouped by the
+ * status the controller picked for them ({@code mybetapp.match.errors}). The
+ * HTTP status alone can't tell a streamed export or import failure apart from a
+ * success, since their status line has already been sent.
+ */
+@Component
+public class MatchErrorMetrics {
+
+	private final MeterRegistry meterRegistry;
+
+	public MatchErrorMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	public void increment(String endpoint, HttpStatus status) {
+		Counter.builder("mybetapp.match.errors").description("Requests that ended with an error result")
+				.tag("endpoint", endpoint).tag("category", category(status)).register(meterRegistry).increment();
+	}
+
+	static String category(HttpStatus status) {
+		return switch (status) {
+			case BAD_REQUEST -> "bad_request";
+			case UNAUTHORIZED -> "unauthorized";
+			case FORBIDDEN -> "forbidden";
+			case NOT_FOUND -> "not_found";
+			case CONFLICT -> "conflict";
+			default -> "internal";
+		};
+	}
+}
@@ -0,0 +1,15 @@
+package com.mybetapp.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer statementCounterCustomizer(JpaStatementCounter statementCounter) {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+	}
+}
@@ -0,0 +1,12 @@
+package com.mybetapp.models;
+
+import java.util.List;
+
+/**
+ * A request carrying a WIN/DRAW/LOSE odds list, validated by
+ * {@link com.mybetapp.validations.ValidMatchOdds}.
+ */
+public interface MatchOddsRequest {
+
+	List<MatchOdds> getOdds();
+}
@@ -20,7 +20,7 @@ import lombok.ToString;
 @ToString
 @DifferentTeamsDto
 @ValidMatchOdds
-public class SaveMatchRequest {
+public class SaveMatchRequest implements MatchOddsRequest {
 
 	private String description;
 
@@ -0,0 +1,27 @@
+package com.mybetapp.models;
+
+import com.mybetapp.validations.ValidMatchOdds;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+@ValidMatchOdds
+public class UpdateOddsRequest implements MatchOddsRequest {
+
+	// The match version the client last saw; a stale one is rejected with 409
+	@NotNull(message = "Version is required")
+	private Long version;
+
+	@NotNull(message = "Odds list cannot be null")
+	@NotEmpty(message = "Odds list cannot be empty")
+	private List<@Valid MatchOdds> odds;
+}
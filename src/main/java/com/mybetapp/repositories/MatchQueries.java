@@ -0,0 +1,164 @@
+package com.mybetapp.repositories;
+
+import com.mybetapp.util.MatchFilterKey;
+import jakarta.persistence.Query;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The listing queries as fixed HQL strings, one per combination of filters
+ * (see {@link MatchFilterKey#mask()}) and ordering. Filter values are always
+ * bound as parameters, so each combination produces one SQL string. Hibernate
+ * keeps its parsed and translated plan in the query plan cache, and the JDBC
+ * driver can prepare the statement once on the server. Criteria queries are
+ * translated again on every execution.
+ */
+final class MatchQueries {
+
+	private static final String DTO_SELECT = "select new com.mybetapp.dto.MatchDTO(m.id, m.owner, m.description, "
+			+ "m.matchDate, m.matchTime, m.teamA, m.teamB, m.sport, m.version) from Match m";
+
+	private static final String EXPORT_SELECT = "select new com.mybetapp.dto.MatchExportRow(m.id, m.owner, "
+			+ "m.description, m.matchDate, m.matchTime, m.teamA, m.teamB, m.sport, m.version, o.specifier, o.odd) "
+			+ "from Match m left join m.odds o";
+
+	// Sortable MatchDTO properties; see MatchSorts. id only ends keyset orderings
+	private static final Map<String, String> SORT_PATHS = Map.of("owner", "m.owner", "sport", "m.sport", "matchDate",
+			"m.matchDate", "matchTime", "m.matchTime", "id", "m.id");
+
+	private static final int FILTER_COMBINATIONS = 32;
+
+	// Indexed by filter mask
+	private static final String[] WHERE = new String[FILTER_COMBINATIONS];
+	private static final String[] COUNT = new String[FILTER_COMBINATIONS];
+	// Keeps the odds of a match on consecutive rows
+	private static final String[] EXPORT = new String[FILTER_COMBINATIONS];
+
+	static {
+		for (int mask = 0; mask < FILTER_COMBINATIONS; mask++) {
+			StringJoiner where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+			if ((mask & MatchFilterKey.OWNER) != 0) {
+				where.add("m.owner = :owner");
+			}
+			if ((mask & MatchFilterKey.SPORT) != 0) {
+				where.add("m.sport = :sport");
+			}
+			if ((mask & MatchFilterKey.MATCH_DATE) != 0) {
+				where.add("m.matchDate = :matchDate");
+			}
+			// Row comparisons are range scans on the (matchDate, matchTime) prefix of
+			// idx_matches_date_time_id
+			if ((mask & MatchFilterKey.FROM) != 0) {
+				where.add("(m.matchDate, m.matchTime) >= (:fromDate, :fromTime)");
+			}
+			if ((mask & MatchFilterKey.TO) != 0) {
+				where.add("(m.matchDate, m.matchTime) < (:toDate, :toTime)");
+			}
+			WHERE[mask] = where.toString();
+			COUNT[mask] = "select count(m) from Match m" + WHERE[mask];
+			EXPORT[mask] = EXPORT_SELECT + WHERE[mask] + " order by m.id";
+		}
+	}
+
+	// Orderings come from MatchSorts, so these hold a few dozen entries at most
+	private static final ConcurrentMap<DTOQueryKey, String> DTO = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<DTOQueryKey, String> SEEK = new ConcurrentHashMap<>();
+
+	private MatchQueries() {
+	}
+
+	static String dto(MatchFilterKey filter, Sort sort) {
+		return DTO.computeIfAbsent(new DTOQueryKey(filter.mask(), sort),
+				key -> DTO_SELECT + WHERE[key.mask()] + orderBy(key.sort()));
+	}
+
+	/**
+	 * The DTO listing continued after a keyset position: a single row-value
+	 * comparison over all sort keys, which the database answers as one range scan
+	 * of the index on the filter column followed by those keys. The sort must be a
+	 * total order in one direction; bind the position with {@link #bindSeek}.
+	 */
+	static String seek(MatchFilterKey filter, Sort sort) {
+		return SEEK.computeIfAbsent(new DTOQueryKey(filter.mask(), sort), key -> DTO_SELECT + WHERE[key.mask()]
+				+ (WHERE[key.mask()].isEmpty() ? " where " : " and ") + seekPredicate(key.sort())
+				+ orderBy(key.sort()));
+	}
+
+	static String count(MatchFilterKey filter) {
+		return COUNT[filter.mask()];
+	}
+
+	static String export(MatchFilterKey filter) {
+		return EXPORT[filter.mask()];
+	}
+
+	static <Q extends Query> Q bind(Q query, MatchFilterKey filter) {
+		if (filter.owner() != null) {
+			query.setParameter("owner", filter.owner());
+		}
+		if (filter.sport() != null) {
+			query.setParameter("sport", filter.sport());
+		}
+		if (filter.matchDate() != null) {
+			query.setParameter("matchDate", filter.matchDate());
+		}
+		if (filter.from() != null) {
+			query.setParameter("fromDate", filter.from().toLocalDate());
+			query.setParameter("fromTime", filter.from().toLocalTime());
+		}
+		if (filter.to() != null) {
+			query.setParameter("toDate", filter.to().toLocalDate());
+			query.setParameter("toTime", filter.to().toLocalTime());
+		}
+		return query;
+	}
+
+	static <Q extends Query> Q bindSeek(Q query, Sort sort, Map<String, Object> position) {
+		int index = 0;
+		for (Sort.Order order : sort) {
+			Object value = position.get(order.getProperty());
+			// Tuple elements get no type from the column they are compared to, so an
+			// enum would bind as its ordinal rather than the stored name
+			query.setParameter("after" + index++, value instanceof Enum<?> constant ? constant.name() : value);
+		}
+		return query;
+	}
+
+	private static String seekPredicate(Sort sort) {
+		StringJoiner columns = new StringJoiner(", ", "(", ")");
+		StringJoiner values = new StringJoiner(", ", "(", ")");
+		Sort.Direction direction = sort.iterator().next().getDirection();
+		int index = 0;
+		for (Sort.Order order : sort) {
+			if (order.getDirection() != direction) {
+				throw new IllegalArgumentException("Keyset orderings must use one direction: " + sort);
+			}
+			columns.add(path(order));
+			values.add(":after" + index++);
+		}
+		return columns + (direction.isAscending() ? " > " : " < ") + values;
+	}
+
+	private static String orderBy(Sort sort) {
+		StringJoiner orderBy = new StringJoiner(", ", " order by ", "").setEmptyValue("");
+		for (Sort.Order order : sort) {
+			orderBy.add(path(order) + (order.isAscending() ? " asc" : " desc"));
+		}
+		return orderBy.toString();
+	}
+
+	private static String path(Sort.Order order) {
+		// Property names end up in the HQL, so only known ones get through
+		String path = SORT_PATHS.get(order.getProperty());
+		if (path == null) {
+			throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+		}
+		return path;
+	}
+
+	private record DTOQueryKey(int mask, Sort sort) {
+	}
+}
@@ -1,16 +1,35 @@
 package com.mybetapp.repositories;
 
+import com.mybetapp.dto.MatchOddsRow;
 import com.mybetapp.entities.Match;
-import com.mybetapp.enums.Sport;
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MatchRepository extends JpaRepository<Match, Long>, JpaSpecificationExecutor<Match> {
+public interface MatchRepository extends JpaRepository<Match, Long>, MatchRepositoryCustom {
 
-	boolean existsByTeamAAndTeamBAndMatchDateAndMatchTimeAndSport(String teamA, String teamB, LocalDate matchDate,
-			LocalTime matchTime, Sport sport);
+	// Loads the odds of a whole page in one round trip instead of one lazy load per
+	// match
+	@Query("select new com.mybetapp.dto.MatchOddsRow(o.match.id, o.specifier, o.odd) from MatchOdds o "
+			+ "where o.match.id in :matchIds")
+	List<MatchOddsRow> findOddsRowsByMatchIdIn(@Param("matchIds") Collection<Long> matchIds);
+
+	// Owner and version checks live in the WHERE clause, so a miss costs no extra
+	// read on the hot path
+	@Modifying
+	@Query("update Match m set m.version = m.version + 1 "
+			+ "where m.id = :id and m.owner = :owner and m.version = :version")
+	int incrementVersionByIdAndOwner(@Param("id") Long id, @Param("owner") String owner,
+			@Param("version") Long version);
+
+	@Modifying
+	@Query("update MatchOdds o set o.odd = case o.specifier when com.mybetapp.enums.Specifier.WIN then :win "
+			+ "when com.mybetapp.enums.Specifier.DRAW then :draw else :lose end where o.match.id = :matchId")
+	int updateOddsByMatchId(@Param("matchId") Long matchId, @Param("win") Double win, @Param("draw") Double draw,
+			@Param("lose") Double lose);
 }
@@ -0,0 +1,77 @@
+package com.mybetapp.repositories;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchExportRow;
+import com.mybetapp.entities.Match;
+import com.mybetapp.util.MatchFilterKey;
+import com.mybetapp.util.MatchIdentity;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Read-only listing queries that select straight into {@link MatchDTO} instead
+ * of hydrating managed entities. The returned DTOs carry no odds; callers attach
+ * them with {@link MatchRepository#findOddsRowsByMatchIdIn}. Listings are
+ * filtered by a {@link MatchFilterKey} and run as the prebuilt queries of
+ * {@link MatchQueries}.
+ */
+public interface MatchRepositoryCustom {
+
+	Page<MatchDTO> findMatchDTOPage(MatchFilterKey filter, Pageable pageable);
+
+	Slice<MatchDTO> findMatchDTOSlice(MatchFilterKey filter, Pageable pageable);
+
+	List<MatchDTO> findMatchDTOs(MatchFilterKey filter, Sort sort);
+
+	long countMatches(MatchFilterKey filter);
+
+	/**
+	 * Returns up to {@code limit} matches that come after {@code position} in the
+	 * given keyset ordering, or the first ones if {@code position} is empty. The
+	 * position holds the value of every sort property of the last match already
+	 * returned.
+	 */
+	List<MatchDTO> findMatchDTOsAfter(MatchFilterKey filter, Sort sort, Map<String, Object> position, int limit);
+
+	/**
+	 * Streams every match matching the filter joined to its odds, ordered by match
+	 * id, from a forward-only cursor. Must be consumed and closed inside a
+	 * transaction.
+	 */
+	Stream<MatchExportRow> streamMatchExportRows(MatchFilterKey filter);
+
+	/**
+	 * Deletes the match only if it belongs to the given owner, in a single
+	 * statement. Its odds go with it through the database-level cascade on
+	 * match_odds.match_id.
+	 * <p>
+	 * PostgreSQL only: the statement is a native {@code delete ... returning},
+	 * which H2 rejects. {@code MatchDeleteReturningTest} covers it in the
+	 * {@code postgres} Maven profile.
+	 *
+	 * @return the filter key of the deleted match, or empty if no match with this
+	 *         id and owner exists
+	 */
+	Optional<MatchFilterKey> deleteByIdAndOwner(Long id, String owner);
+
+	/**
+	 * Bumps the version of a managed match with an immediate versioned UPDATE, for
+	 * changes that only touch its odds rows and so would leave the version as it
+	 * was.
+	 */
+	void forceVersionIncrement(Match match);
+
+	/**
+	 * Returns which of the given identities already exist, in a single query, so a
+	 * batch is checked for duplicates without one round trip per item.
+	 */
+	Set<MatchIdentity> findExistingIdentities(Collection<MatchIdentity> identities);
+}
@@ -0,0 +1,145 @@
+package com.mybetapp.repositories;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchExportRow;
+import com.mybetapp.entities.Match;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.util.MatchFilterKey;
+import com.mybetapp.util.MatchIdentity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public class MatchRepositoryCustomImpl implements MatchRepositoryCustom {
+
+	// Rows per round trip while streaming an export
+	private static final int EXPORT_FETCH_SIZE = 1000;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public Page<MatchDTO> findMatchDTOPage(MatchFilterKey filter, Pageable pageable) {
+		List<MatchDTO> content = createDTOQuery(filter, pageable, pageable.getPageSize()).getResultList();
+
+		return PageableExecutionUtils.getPage(content, pageable, () -> countMatches(filter));
+	}
+
+	@Override
+	public Slice<MatchDTO> findMatchDTOSlice(MatchFilterKey filter, Pageable pageable) {
+		// One extra row tells whether a next slice exists without counting
+		List<MatchDTO> content = createDTOQuery(filter, pageable, pageable.getPageSize() + 1).getResultList();
+		boolean hasNext = content.size() > pageable.getPageSize();
+
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+	@Override
+	public List<MatchDTO> findMatchDTOs(MatchFilterKey filter, Sort sort) {
+		return createDTOQuery(filter, sort).getResultList();
+	}
+
+	@Override
+	public List<MatchDTO> findMatchDTOsAfter(MatchFilterKey filter, Sort sort, Map<String, Object> position,
+			int limit) {
+		if (position.isEmpty()) {
+			return createDTOQuery(filter, sort).setMaxResults(limit).getResultList();
+		}
+
+		TypedQuery<MatchDTO> query = entityManager.createQuery(MatchQueries.seek(filter, sort), MatchDTO.class);
+		return MatchQueries.bindSeek(MatchQueries.bind(query, filter), sort, position).setMaxResults(limit)
+				.setHint(HibernateHints.HINT_READ_ONLY, true).getResultList();
+	}
+
+	@Override
+	public long countMatches(MatchFilterKey filter) {
+		return MatchQueries.bind(entityManager.createQuery(MatchQueries.count(filter), Long.class), filter)
+				.getSingleResult();
+	}
+
+	@Override
+	public Stream<MatchExportRow> streamMatchExportRows(MatchFilterKey filter) {
+		// Scalar rows never enter the persistence context, and the fetch size makes the
+		// PostgreSQL driver use a server-side cursor instead of buffering the result
+		return MatchQueries.bind(entityManager.createQuery(MatchQueries.export(filter), MatchExportRow.class), filter)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE).setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream();
+	}
+
+	@Override
+	public Optional<MatchFilterKey> deleteByIdAndOwner(Long id, String owner) {
+		// RETURNING hands back the filter key for cache invalidation without a prior
+		// SELECT
+		List<Object[]> deleted = entityManager
+				.createNativeQuery("delete from matches where id = :id and owner = :owner "
+						+ "returning owner, sport, match_date")
+				.unwrap(NativeQuery.class).addScalar("owner", String.class).addScalar("sport", String.class)
+				.addScalar("match_date", LocalDate.class).setParameter("id", id).setParameter("owner", owner)
+				.getResultList();
+
+		return deleted.stream().findFirst().map(row -> new MatchFilterKey((String) row[0],
+				row[1] == null ? null : Sport.valueOf((String) row[1]), (LocalDate) row[2]));
+	}
+
+	@Override
+	public void forceVersionIncrement(Match match) {
+		// The pessimistic variant writes the new version right away and onto the
+		// entity; the optimistic one would only do so at commit, after the caller
+		// has built its response
+		entityManager.lock(match, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+	}
+
+	@Override
+	public Set<MatchIdentity> findExistingIdentities(Collection<MatchIdentity> identities) {
+		if (identities.isEmpty()) {
+			return Set.of();
+		}
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<MatchIdentity> query = cb.createQuery(MatchIdentity.class);
+		Root<Match> root = query.from(Match.class);
+
+		query.select(cb.construct(MatchIdentity.class, root.get("teamA"), root.get("teamB"), root.get("matchDate"),
+				root.get("matchTime"), root.get("sport")));
+		query.where(cb.or(identities.stream()
+				.map(identity -> cb.and(cb.equal(root.get("teamA"), identity.teamA()),
+						cb.equal(root.get("teamB"), identity.teamB()),
+						cb.equal(root.get("matchDate"), identity.matchDate()),
+						cb.equal(root.get("matchTime"), identity.matchTime()),
+						cb.equal(root.get("sport"), identity.sport())))
+				.toArray(Predicate[]::new)));
+
+		return new HashSet<>(entityManager.createQuery(query).getResultList());
+	}
+
+	private TypedQuery<MatchDTO> createDTOQuery(MatchFilterKey filter, Pageable pageable, int maxResults) {
+		return createDTOQuery(filter, pageable.getSort()).setFirstResult((int) pageable.getOffset())
+				.setMaxResults(maxResults);
+	}
+
+	private TypedQuery<MatchDTO> createDTOQuery(MatchFilterKey filter, Sort sort) {
+		return MatchQueries.bind(entityManager.createQuery(MatchQueries.dto(filter, sort), MatchDTO.class), filter)
+				.setHint(HibernateHints.HINT_READ_ONLY, true);
+	}
+}
@@ -0,0 +1,140 @@
+package com.mybetapp.repositories;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchExportRow;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.util.MatchFilterKey;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link MatchRepositoryCustom#findMatchDTOPage}
+ * for the reactive read API. A page of matches is selected in a subquery and
+ * joined to its odds, and each match is emitted as soon as its last odds row
+ * has arrived. {@link #countMatches} supplies the page totals.
+ */
+@Repository
+public class ReactiveMatchReader {
+
+	// Sortable MatchDTO properties and their columns; see MatchSorts
+	private static final Map<String, String> SORT_COLUMNS = Map.of("owner", "owner", "sport", "sport", "matchDate",
+			"match_date", "matchTime", "match_time");
+
+	private final DatabaseClient databaseClient;
+
+	public ReactiveMatchReader(DatabaseClient databaseClient) {
+		this.databaseClient = databaseClient;
+	}
+
+	public Flux<MatchDTO> findMatchPage(MatchFilterKey filter, Pageable pageable) {
+		String sql = "select m.id, m.owner, m.description, m.match_date, m.match_time, m.team_a, m.team_b, m.sport, "
+				+ "m.version, o.specifier, o.odd from (select * from matches" + where(filter)
+				+ orderBy(pageable.getSort(), "") + " limit :limit offset :offset) m "
+				+ "left join match_odds o on o.match_id = m.id"
+				// The id keeps each match's odds rows together when sort keys tie
+				+ orderBy(pageable.getSort(), "m.") + ", m.id, o.id";
+
+		DatabaseClient.GenericExecuteSpec statement = bind(databaseClient.sql(sql), filter)
+				.bind("limit", pageable.getPageSize()).bind("offset", pageable.getOffset());
+
+		return statement.map(ReactiveMatchReader::toExportRow).all().bufferUntilChanged(MatchExportRow::matchId)
+				.map(ReactiveMatchReader::toMatchDTO);
+	}
+
+	/**
+	 * Non-blocking counterpart of {@link MatchRepositoryCustom#countMatches}, for
+	 * the page totals.
+	 */
+	public Mono<Long> countMatches(MatchFilterKey filter) {
+		return bind(databaseClient.sql("select count(*) from matches" + where(filter)), filter)
+				.map(row -> row.get(0, Long.class)).one();
+	}
+
+	private static String where(MatchFilterKey filter) {
+		StringJoiner where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+		if (filter.owner() != null) {
+			where.add("owner = :owner");
+		}
+		if (filter.sport() != null) {
+			where.add("sport = :sport");
+		}
+		if (filter.matchDate() != null) {
+			where.add("match_date = :matchDate");
+		}
+		// Same row comparisons as MatchQueries, a range scan on idx_matches_date_time_id
+		if (filter.from() != null) {
+			where.add("(match_date, match_time) >= (:fromDate, :fromTime)");
+		}
+		if (filter.to() != null) {
+			where.add("(match_date, match_time) < (:toDate, :toTime)");
+		}
+		return where.toString();
+	}
+
+	private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec statement,
+			MatchFilterKey filter) {
+		if (filter.owner() != null) {
+			statement = statement.bind("owner", filter.owner());
+		}
+		if (filter.sport() != null) {
+			statement = statement.bind("sport", filter.sport().name());
+		}
+		if (filter.matchDate() != null) {
+			statement = statement.bind("matchDate", filter.matchDate());
+		}
+		if (filter.from() != null) {
+			statement = statement.bind("fromDate", filter.from().toLocalDate()).bind("fromTime",
+					filter.from().toLocalTime());
+		}
+		if (filter.to() != null) {
+			statement = statement.bind("toDate", filter.to().toLocalDate()).bind("toTime", filter.to().toLocalTime());
+		}
+		return statement;
+	}
+
+	private static String orderBy(Sort sort, String alias) {
+		StringJoiner orderBy = new StringJoiner(", ", " order by ", "");
+		for (Sort.Order order : sort) {
+			String column = SORT_COLUMNS.get(order.getProperty());
+			if (column == null) {
+				throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+			}
+			orderBy.add(alias + column + (order.isAscending() ? " asc" : " desc"));
+		}
+		return orderBy.toString();
+	}
+
+	private static MatchExportRow toExportRow(Readable row) {
+		String specifier = row.get("specifier", String.class);
+		return new MatchExportRow(row.get("id", Long.class), row.get("owner", String.class),
+				row.get("description", String.class), row.get("match_date", LocalDate.class),
+				row.get("match_time", LocalTime.class), row.get("team_a", String.class), row.get("team_b", String.class),
+				Sport.valueOf(row.get("sport", String.class)), row.get("version", Long.class),
+				specifier == null ? null : Specifier.valueOf(specifier), row.get("odd", Double.class));
+	}
+
+	private static MatchDTO toMatchDTO(List<MatchExportRow> rows) {
+		MatchDTO matchDTO = rows.getFirst().toMatchDTO();
+		List<com.mybetapp.models.MatchOdds> odds = new ArrayList<>(rows.size());
+		for (MatchExportRow row : rows) {
+			// A match without odds comes back as a single row with no specifier
+			if (row.specifier() != null) {
+				odds.add(row.toMatchOddsRow().toMatchOdds());
+			}
+		}
+		matchDTO.setOdds(odds);
+		return matchDTO;
+	}
+}
@@ -0,0 +1,65 @@
+package com.mybetapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Remembers tokens that have already passed signature, issuer and expiry
+ * validation, so a client that sends the same bearer token on every request
+ * pays for verification once. Entries are keyed by the SHA-256 of the token,
+ * keeping raw tokens out of the heap, and expire at the token's {@code exp}.
+ * Rejected tokens and tokens without an expiry are never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+	private static final HexFormat HEX = HexFormat.of();
+
+	private final JwtDecoder delegate;
+	private final Cache<String, Jwt> tokens;
+
+	public CachingJwtDecoder(JwtDecoder delegate, long maximumSize) {
+		this(delegate, maximumSize, Clock.systemUTC());
+	}
+
+	CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Clock clock) {
+		this.delegate = delegate;
+		this.tokens = Caffeine.newBuilder().maximumSize(maximumSize)
+				.expireAfter(Expiry.creating((String key, Jwt jwt) -> timeToExpiry(jwt, clock.instant()))).build();
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		// Concurrent requests with the same token wait for one verification; a
+		// JwtException propagates and leaves nothing behind
+		return tokens.get(hash(token), key -> delegate.decode(token));
+	}
+
+	private static Duration timeToExpiry(Jwt jwt, Instant now) {
+		Instant expiresAt = jwt.getExpiresAt();
+		if (expiresAt == null || !expiresAt.isAfter(now)) {
+			return Duration.ZERO;
+		}
+		return Duration.between(now, expiresAt);
+	}
+
+	private static String hash(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+		} catch (NoSuchAlgorithmException e) {
+			// Every JRE ships SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+}
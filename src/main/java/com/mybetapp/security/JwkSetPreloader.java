@@ -0,0 +1,52 @@
+package com.mybetapp.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches the JWK set once the application is up, so the first authenticated
+ * request after a restart does not wait for Keycloak. The fetch runs off the
+ * startup thread and only logs a failure: the keys are then fetched with the
+ * first token, as without preloading.
+ */
+@Component
+public class JwkSetPreloader {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(JwkSetPreloader.class);
+
+	private final JWKSource<SecurityContext> jwkSource;
+	private final boolean enabled;
+
+	public JwkSetPreloader(JWKSource<SecurityContext> jwkSource,
+			@Value("${mybetapp.security.jwk-set.preload:true}") boolean enabled) {
+		this.jwkSource = jwkSource;
+		this.enabled = enabled;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void preload() {
+		if (enabled) {
+			Thread.ofVirtual().name("jwk-set-preload").start(this::load);
+		}
+	}
+
+	void load() {
+		try {
+			List<JWK> keys = jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null);
+			LOGGER.info("Preloaded {} JWKs", keys.size());
+		} catch (KeySourceException e) {
+			LOGGER.warn("Could not preload the JWK set, it will be fetched with the first token: {}", e.getMessage());
+		}
+	}
+}
@@ -1,11 +1,30 @@
 package com.mybetapp.security;
 
+import com.mybetapp.jfr.JwtDecodeEvent;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.oauth2.jwt.JwtIssuerValidator;
 import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
@@ -13,16 +32,50 @@ import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 @Configuration
 public class JwtDecoderConfig {
 
+	private static final Set<JWSAlgorithm> SIGNATURE_ALGORITHMS = new HashSet<>();
+
+	static {
+		SIGNATURE_ALGORITHMS.addAll(JWSAlgorithm.Family.RSA);
+		SIGNATURE_ALGORITHMS.addAll(JWSAlgorithm.Family.EC);
+	}
+
+	/**
+	 * Keycloak's signing keys. A remote set is cached and refreshed in the
+	 * background shortly before it expires, so requests only wait for a fetch
+	 * when an unknown key id shows up; {@link JwkSetPreloader} loads it at
+	 * startup. A {@code file:} or {@code classpath:} location is read once, for
+	 * offline runs and tests.
+	 */
 	@Bean
-	public JwtDecoder jwtDecoder() {
-		// Use the OpenID configuration URL with host.docker.internal
-		String jwkSetUri = "http://host.docker.internal:8188/realms/my-quarkus-app/protocol/openid-connect/certs";
+	public JWKSource<SecurityContext> jwkSource(@Value("${mybetapp.security.jwk-set-uri}") String jwkSetUri,
+			@Value("${mybetapp.security.jwk-set.time-to-live:15m}") Duration timeToLive,
+			@Value("${mybetapp.security.jwk-set.refresh-ahead:1m}") Duration refreshAhead,
+			ResourceLoader resourceLoader) throws IOException, ParseException {
+		if (!jwkSetUri.startsWith("http:") && !jwkSetUri.startsWith("https:")) {
+			try (InputStream jwkSet = resourceLoader.getResource(jwkSetUri).getInputStream()) {
+				return new ImmutableJWKSet<>(JWKSet.load(jwkSet));
+			}
+		}
 
-		NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+		return JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+				.cache(timeToLive.toMillis(), JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT)
+				.refreshAheadCache(refreshAhead.toMillis(), true).retrying(true).build();
+	}
 
-		// Create a validator for the issuer claim that matches 'localhost'
-		OAuth2TokenValidator<Jwt> issuerValidator = new JwtIssuerValidator(
-				"http://localhost:8188/realms/my-quarkus-app");
+	@Bean
+	public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource,
+			@Value("${mybetapp.security.issuer}") String issuer,
+			@Value("${mybetapp.security.token-cache.enabled:true}") boolean tokenCacheEnabled,
+			@Value("${mybetapp.security.token-cache.maximum-size:10000}") long tokenCacheMaximumSize) {
+		DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+		jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(SIGNATURE_ALGORITHMS, jwkSource));
+		// Claims are checked by the validators below, as NimbusJwtDecoder's own builders do
+		jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+		NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+
+		// Create a validator for the issuer claim the tokens were issued with
+		OAuth2TokenValidator<Jwt> issuerValidator = new JwtIssuerValidator(issuer);
 
 		// Timestamp validator for exp, nbf etc.
 		OAuth2TokenValidator<Jwt> timestampValidator = new JwtTimestampValidator();
@@ -31,6 +84,20 @@ public class JwtDecoderConfig {
 
 		jwtDecoder.setJwtValidator(validator);
 
-		return jwtDecoder;
+		// Time every decode in JFR; a rejected token is recorded before the exception
+		// propagates
+		JwtDecoder recordingDecoder = token -> {
+			JwtDecodeEvent event = JwtDecodeEvent.start();
+			try {
+				Jwt jwt = jwtDecoder.decode(token);
+				event.end(true);
+				return jwt;
+			} catch (JwtException e) {
+				event.end(false);
+				throw e;
+			}
+		};
+
+		return tokenCacheEnabled ? new CachingJwtDecoder(recordingDecoder, tokenCacheMaximumSize) : recordingDecoder;
 	}
 }
@@ -0,0 +1,16 @@
+package com.mybetapp.services;
+
+import com.mybetapp.dto.MatchImportProgressDTO;
+import com.mybetapp.dto.MatchImportRejectionDTO;
+
+/**
+ * Receives import results as they happen, so rejected lines are handed on
+ * instead of being collected for the whole file.
+ */
+public interface MatchImportListener {
+
+	void onRejected(MatchImportRejectionDTO rejection);
+
+	// Called after every committed chunk with the running totals
+	void onProgress(MatchImportProgressDTO progress);
+}
@@ -0,0 +1,14 @@
+package com.mybetapp.services;
+
+import com.mybetapp.dto.MatchImportProgressDTO;
+import com.mybetapp.enums.MatchFileFormat;
+import com.mybetapp.util.Result;
+import java.io.BufferedReader;
+
+public interface MatchImportService {
+
+	Result<MatchImportProgressDTO> importMatches(BufferedReader reader, MatchFileFormat format,
+			MatchImportListener listener);
+
+	Result<MatchImportProgressDTO> importFile(String path, MatchImportListener listener);
+}
@@ -0,0 +1,291 @@
+package com.mybetapp.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybetapp.dto.MatchBatchItemDTO;
+import com.mybetapp.dto.MatchImportProgressDTO;
+import com.mybetapp.dto.MatchImportRejectionDTO;
+import com.mybetapp.enums.BatchItemStatus;
+import com.mybetapp.enums.MatchFileFormat;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.models.MatchOdds;
+import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.util.Result;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Streams NDJSON or CSV match files into the database. Records are read one
+ * line at a time and handed to {@link MatchService#saveMatches} in chunks, so
+ * each chunk is validated, duplicate-checked and committed in its own
+ * transaction and at most one chunk is held in memory.
+ */
+@Service
+public class MatchImportServiceImpl implements MatchImportService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MatchImportServiceImpl.class);
+
+	private static final List<String> REQUIRED_CSV_COLUMNS = List.of("matchDate", "matchTime", "teamA", "teamB",
+			"sport", "win", "draw", "lose");
+
+	private final MatchService matchService;
+	private final ObjectMapper objectMapper;
+	private final int chunkSize;
+	private final String importDirectory;
+	private final EntityManager entityManager;
+
+	public MatchImportServiceImpl(MatchService matchService, ObjectMapper objectMapper,
+			@Value("${mybetapp.import.chunk-size:500}") int chunkSize,
+			@Value("${mybetapp.import.directory:}") String importDirectory, EntityManager entityManager) {
+		this.matchService = matchService;
+		this.objectMapper = objectMapper;
+		// A chunk is one saveMatches call, which refuses anything larger
+		this.chunkSize = Math.max(1, Math.min(chunkSize, MatchServiceImpl.MAX_BATCH_SIZE));
+		this.importDirectory = importDirectory;
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	public Result<MatchImportProgressDTO> importMatches(BufferedReader reader, MatchFileFormat format,
+			MatchImportListener listener) {
+		MatchImportProgressDTO progress = new MatchImportProgressDTO();
+		List<SaveMatchRequest> chunk = new ArrayList<>(chunkSize);
+		long[] chunkLines = new long[chunkSize];
+		Map<String, Integer> csvColumns = null;
+
+		try {
+			String line;
+			long lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+
+				if (format == MatchFileFormat.CSV && csvColumns == null) {
+					Map<String, Integer> header = parseCsvHeader(line);
+					List<String> missing = REQUIRED_CSV_COLUMNS.stream().filter(c -> !header.containsKey(c))
+							.toList();
+					if (!missing.isEmpty()) {
+						return Result.error("Invalid CSV header: missing columns " + missing);
+					}
+					csvColumns = header;
+					continue;
+				}
+				if (line.isBlank()) {
+					continue;
+				}
+
+				progress.setRecords(progress.getRecords() + 1);
+
+				SaveMatchRequest request;
+				try {
+					request = format == MatchFileFormat.CSV
+							? parseCsvRecord(line, csvColumns)
+							: objectMapper.readValue(line, SaveMatchRequest.class);
+				} catch (JsonProcessingException e) {
+					reject(progress, listener, lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+					continue;
+				} catch (IllegalArgumentException e) {
+					reject(progress, listener, lineNumber, e.getMessage());
+					continue;
+				}
+
+				chunkLines[chunk.size()] = lineNumber;
+				chunk.add(request);
+
+				if (chunk.size() == chunkSize) {
+					Result<Void> saved = saveChunk(chunk, chunkLines, progress, listener);
+					if (!saved.isSuccess()) {
+						return Result.error(saved.getError());
+					}
+				}
+			}
+
+			if (format == MatchFileFormat.CSV && csvColumns == null) {
+				return Result.error("Invalid CSV header: the file is empty");
+			}
+
+			if (!chunk.isEmpty()) {
+				Result<Void> saved = saveChunk(chunk, chunkLines, progress, listener);
+				if (!saved.isSuccess()) {
+					return Result.error(saved.getError());
+				}
+			}
+
+			LOGGER.info("Match import finished: {}", progress);
+			return Result.ok(progress);
+		} catch (IOException e) {
+			LOGGER.error("Failed to read match import after {}", progress, e);
+			return Result.error("Failed to read import: " + e.getMessage());
+		}
+	}
+
+	@Override
+	public Result<MatchImportProgressDTO> importFile(String path, MatchImportListener listener) {
+		if (importDirectory == null || importDirectory.isBlank()) {
+			return Result.error("File import is disabled: mybetapp.import.directory is not set");
+		}
+
+		try {
+			Path root = Path.of(importDirectory).toRealPath();
+			// Checked before anything touches the file, so paths outside the import
+			// directory all get the same answer whether or not they exist
+			Path file = root.resolve(path).normalize();
+			if (!file.startsWith(root) || Files.exists(file) && !file.toRealPath().startsWith(root)) {
+				return Result.error("Invalid import path: " + path);
+			}
+			if (!Files.isRegularFile(file)) {
+				return Result.error("NOT_FOUND: Import file " + path + " does not exist");
+			}
+
+			LOGGER.info("Importing matches from file {}", file);
+			try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+				return importMatches(reader, MatchFileFormat.fromFileName(file.toString()), listener);
+			}
+		} catch (IOException e) {
+			LOGGER.error("Failed to open import file {}", path, e);
+			return Result.error("Failed to read import: " + e.getMessage());
+		}
+	}
+
+	private Result<Void> saveChunk(List<SaveMatchRequest> chunk, long[] chunkLines, MatchImportProgressDTO progress,
+			MatchImportListener listener) {
+		Result<List<MatchBatchItemDTO>> result = matchService.saveMatches(chunk);
+		if (!result.isSuccess()) {
+			return Result.error(result.getError());
+		}
+		detachSavedMatches();
+
+		for (MatchBatchItemDTO item : result.getValue()) {
+			if (item.getStatus() == BatchItemStatus.CREATED) {
+				progress.setCreated(progress.getCreated() + 1);
+			} else {
+				progress.setRejected(progress.getRejected() + 1);
+				listener.onRejected(
+						new MatchImportRejectionDTO(chunkLines[item.getIndex()], item.getStatus(), item.getErrors()));
+			}
+		}
+		chunk.clear();
+
+		LOGGER.info("Match import progress: {}", progress);
+		listener.onProgress(progress);
+		return Result.okVoid();
+	}
+
+	/**
+	 * Under open-in-view the request's EntityManager outlives the transaction of
+	 * each chunk, so the saved matches would stay managed for the whole import.
+	 * Clearing it keeps memory and flush-time dirty checking bounded by one chunk.
+	 */
+	private void detachSavedMatches() {
+		// Inside an enclosing transaction the chunk has not been written yet
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			entityManager.flush();
+		}
+		entityManager.clear();
+	}
+
+	private void reject(MatchImportProgressDTO progress, MatchImportListener listener, long lineNumber,
+			String error) {
+		progress.setRejected(progress.getRejected() + 1);
+		listener.onRejected(new MatchImportRejectionDTO(lineNumber, BatchItemStatus.INVALID, List.of(error)));
+	}
+
+	private Map<String, Integer> parseCsvHeader(String line) {
+		List<String> names = splitCsvLine(line);
+		Map<String, Integer> columns = new HashMap<>();
+		for (int i = 0; i < names.size(); i++) {
+			columns.put(names.get(i).trim(), i);
+		}
+		return columns;
+	}
+
+	private SaveMatchRequest parseCsvRecord(String line, Map<String, Integer> columns) {
+		List<String> fields = splitCsvLine(line);
+		if (fields.size() != columns.size()) {
+			throw new IllegalArgumentException(
+					"Expected " + columns.size() + " columns but found " + fields.size());
+		}
+
+		SaveMatchRequest request = new SaveMatchRequest();
+		request.setDescription(csvField(fields, columns, "description"));
+		request.setMatchDate(csvField(fields, columns, "matchDate"));
+		request.setMatchTime(csvField(fields, columns, "matchTime"));
+		request.setTeamA(csvField(fields, columns, "teamA"));
+		request.setTeamB(csvField(fields, columns, "teamB"));
+
+		String sport = csvField(fields, columns, "sport");
+		request.setSport(sport == null ? null : Sport.fromString(sport));
+
+		List<MatchOdds> odds = new ArrayList<>(Specifier.values().length);
+		for (Specifier specifier : Specifier.values()) {
+			String value = csvField(fields, columns, specifier.name().toLowerCase());
+			MatchOdds odd = new MatchOdds();
+			odd.setSpecifier(specifier);
+			try {
+				odd.setOdd(value == null ? null : Double.valueOf(value));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Invalid " + specifier + " odd: " + value);
+			}
+			odds.add(odd);
+		}
+		request.setOdds(odds);
+
+		return request;
+	}
+
+	private String csvField(List<String> fields, Map<String, Integer> columns, String name) {
+		Integer index = columns.get(name);
+		if (index == null) {
+			return null;
+		}
+		String value = fields.get(index).trim();
+		return value.isEmpty() ? null : value;
+	}
+
+	/**
+	 * Splits one CSV line on commas, honouring double-quoted fields and "" escapes.
+	 * Quoted fields cannot span lines.
+	 */
+	private List<String> splitCsvLine(String line) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					field.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+		fields.add(field.toString());
+
+		return fields;
+	}
+}
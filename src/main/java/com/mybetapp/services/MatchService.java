@@ -1,20 +1,52 @@
 package com.mybetapp.services;
 
+import com.mybetapp.dto.MatchBatchItemDTO;
 import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchOddsDTO;
+import com.mybetapp.dto.MatchScrollDTO;
+import com.mybetapp.dto.MatchSliceDTO;
 import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.models.UpdateOddsRequest;
 import com.mybetapp.util.Result;
 import org.springframework.data.domain.Page;
-import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface MatchService {
+	/**
+	 * Lists matches kicking off in [{@code from}, {@code to}) on top of the other
+	 * filters, or, with {@code upcomingHours}, in the next that many hours.
+	 * {@code upcomingHours} cannot be combined with {@code from} or {@code to}.
+	 */
 	Result<Page<MatchDTO>> getPaginatedMatches(int page, int size, String sortBy, String direction, String owner,
-			String sport, @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate matchDate);
+			String sport, LocalDate matchDate, LocalDateTime from, LocalDateTime to, Integer upcomingHours);
+
+	Result<MatchSliceDTO> getMatchSlice(int page, int size, String sortBy, String direction, String owner,
+			String sport, LocalDate matchDate);
+
+	Result<List<MatchDTO>> getMatchSchedule(LocalDate matchDate, String sport, String sortBy, String direction);
+
+	/**
+	 * Hands every match matching the filters, with its odds, to the consumer one
+	 * at a time while reading them from a database cursor.
+	 *
+	 * @return the number of exported matches
+	 */
+	Result<Long> exportMatches(String owner, String sport, LocalDate matchDate, Consumer<MatchDTO> consumer);
+
+	Result<MatchScrollDTO> scrollMatches(int size, String sortBy, String direction, String owner, String sport,
+			LocalDate matchDate, String cursor);
 
 	Result<MatchDTO> saveMatch(SaveMatchRequest saveMatchRequest);
 
+	Result<List<MatchBatchItemDTO>> saveMatches(List<SaveMatchRequest> saveMatchRequests);
+
 	Result<MatchDTO> updateMatch(Long matchId, SaveMatchRequest saveMatchRequest);
 
+	Result<MatchOddsDTO> updateMatchOdds(Long matchId, UpdateOddsRequest updateOddsRequest);
+
 	Result<Void> deleteMatch(Long matchId);
 }
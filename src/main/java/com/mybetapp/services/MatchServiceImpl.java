@@ -1,61 +1,146 @@
 package com.mybetapp.services;
 
+import com.mybetapp.cache.MatchCountCache;
+import com.mybetapp.cache.MatchPageCache;
+import com.mybetapp.cache.MatchPageKey;
+import com.mybetapp.dto.MatchBatchItemDTO;
 import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchExportRow;
+import com.mybetapp.dto.MatchOddsDTO;
+import com.mybetapp.dto.MatchOddsRow;
+import com.mybetapp.dto.MatchScrollDTO;
+import com.mybetapp.dto.MatchSliceDTO;
 import com.mybetapp.entities.Match;
 import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.BatchItemStatus;
 import com.mybetapp.enums.Sanitization;
-import com.mybetapp.enums.Sport;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.events.MatchChangedEvent;
+import com.mybetapp.jfr.MatchQueryEvent;
+import com.mybetapp.jfr.MatchServicePhaseEvent;
 import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.models.UpdateOddsRequest;
 import com.mybetapp.repositories.MatchRepository;
+import com.mybetapp.util.KickOffRange;
+import com.mybetapp.util.MatchCursor;
+import com.mybetapp.util.MatchFilterKey;
+import com.mybetapp.util.MatchIdentity;
+import com.mybetapp.util.MatchSorts;
 import com.mybetapp.util.Result;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import jakarta.persistence.criteria.Predicate;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class MatchServiceImpl implements MatchService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MatchServiceImpl.class);
 
-	private final MatchRepository matchRepository;
+	// Upper bound for one saveMatches call, keeping the duplicate check query and
+	// the transaction small
+	static final int MAX_BATCH_SIZE = 500;
+
+	// Formatters are immutable and thread-safe; building one per call cost more
+	// than the parse itself
+	private static final DateTimeFormatter MATCH_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+	private static final DateTimeFormatter MATCH_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
 
-	public MatchServiceImpl(MatchRepository matchRepository) {
+	private final MatchRepository matchRepository;
+	private final MatchCountCache matchCountCache;
+	private final MatchPageCache matchPageCache;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Validator validator;
+	private final TransactionTemplate transactionTemplate;
+
+	public MatchServiceImpl(MatchRepository matchRepository, MatchCountCache matchCountCache,
+			MatchPageCache matchPageCache, ApplicationEventPublisher eventPublisher, Validator validator,
+			PlatformTransactionManager transactionManager) {
 		this.matchRepository = matchRepository;
+		this.matchCountCache = matchCountCache;
+		this.matchPageCache = matchPageCache;
+		this.eventPublisher = eventPublisher;
+		this.validator = validator;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Result<Page<MatchDTO>> getPaginatedMatches(int page, int size, String sortBy, String direction, String owner,
-			String sport, LocalDate matchDate) {
+			String sport, LocalDate matchDate, LocalDateTime from, LocalDateTime to, Integer upcomingHours) {
 		LOGGER.info(
-				"Fetching paginated matches with filters - page: {}, size: {}, sortBy: {}, direction: {}, owner: {}, sport: {}, matchDate: {}",
-				page, size, sortBy, direction, owner, sport, matchDate);
+				"Fetching paginated matches with filters - page: {}, size: {}, sortBy: {}, direction: {}, owner: {}, sport: {}, matchDate: {}, from: {}, to: {}, upcomingHours: {}",
+				page, size, sortBy, direction, owner, sport, matchDate, from, to, upcomingHours);
+
+		Result<KickOffRange> range = KickOffRange.of(from, to, upcomingHours);
+		if (!range.isSuccess()) {
+			return Result.error(range.getError());
+		}
 
 		try {
-			Sort sort = getSort(sortBy, direction);
+			Sort sort = MatchSorts.of(sortBy, direction);
 			Pageable pageable = PageRequest.of(page, size, sort);
 
-			Specification<Match> spec = buildMatchSpecification(sanitizeUserInput(owner, Sanitization.LOWERCASE), sport,
-					matchDate);
-			Page<Match> pagedMatches = matchRepository.findAll(spec, pageable);
-			Page<MatchDTO> dtoPage = pagedMatches.map(this::getMatchDTO);
+			String sanitizedOwner = sanitizeUserInput(owner, Sanitization.LOWERCASE);
+			MatchFilterKey filter = MatchFilterKey.of(sanitizedOwner, sport, matchDate)
+					.withRange(range.getValue().from(), range.getValue().to());
+			MatchPageKey pageKey = new MatchPageKey(page, size, sortBy, direction.toLowerCase(), filter);
+
+			Page<MatchDTO> cachedPage = matchPageCache.getIfPresent(pageKey);
+			if (cachedPage != null) {
+				return Result.ok(cachedPage);
+			}
+			long cacheGeneration = matchPageCache.generation();
+
+			MatchQueryEvent query = MatchQueryEvent.start("findMatchDTOPage", MatchQueryEvent.filterShape(filter));
+			Page<MatchDTO> dtoPage = matchCountCache.isEnabled()
+					? findPageWithCachedTotal(pageable, filter)
+					: matchRepository.findMatchDTOPage(filter, pageable);
+			query.end(dtoPage.getNumberOfElements());
+			attachOdds(dtoPage.getContent());
+
+			matchPageCache.put(pageKey, dtoPage, cacheGeneration);
 
 			return Result.ok(dtoPage);
 		} catch (Exception e) {
@@ -64,37 +149,321 @@ public class MatchServiceImpl implements MatchService {
 		}
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Result<MatchSliceDTO> getMatchSlice(int page, int size, String sortBy, String direction, String owner,
+			String sport, LocalDate matchDate) {
+		LOGGER.info(
+				"Fetching match slice with filters - page: {}, size: {}, sortBy: {}, direction: {}, owner: {}, sport: {}, matchDate: {}",
+				page, size, sortBy, direction, owner, sport, matchDate);
+
+		try {
+			Pageable pageable = PageRequest.of(page, size, MatchSorts.of(sortBy, direction));
+
+			String sanitizedOwner = sanitizeUserInput(owner, Sanitization.LOWERCASE);
+			MatchFilterKey filter = MatchFilterKey.of(sanitizedOwner, sport, matchDate);
+			MatchQueryEvent query = MatchQueryEvent.start("findMatchDTOSlice",
+					MatchQueryEvent.filterShape(sanitizedOwner, sport, matchDate));
+			Slice<MatchDTO> slice = matchRepository.findMatchDTOSlice(filter, pageable);
+			query.end(slice.getNumberOfElements());
+
+			MatchSliceDTO sliceDTO = new MatchSliceDTO();
+			sliceDTO.setContent(attachOdds(slice.getContent()));
+			sliceDTO.setPage(page);
+			sliceDTO.setSize(size);
+			sliceDTO.setHasNext(slice.hasNext());
+
+			return Result.ok(sliceDTO);
+		} catch (Exception e) {
+			LOGGER.error("Error fetching match slice", e);
+			return Result.error("Failed to fetch match slice: " + e.getMessage());
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Result<List<MatchDTO>> getMatchSchedule(LocalDate matchDate, String sport, String sortBy,
+			String direction) {
+		LOGGER.info("Fetching match schedule - matchDate: {}, sport: {}, sortBy: {}, direction: {}", matchDate, sport,
+				sortBy, direction);
+
+		try {
+			MatchFilterKey filter = MatchFilterKey.of(null, sport, matchDate);
+			MatchQueryEvent query = MatchQueryEvent.start("findMatchDTOs",
+					MatchQueryEvent.filterShape(null, sport, matchDate));
+			List<MatchDTO> matches = matchRepository.findMatchDTOs(filter, MatchSorts.of(sortBy, direction));
+			query.end(matches.size());
+
+			return Result.ok(attachOdds(matches));
+		} catch (Exception e) {
+			LOGGER.error("Error fetching match schedule", e);
+			return Result.error("Failed to fetch match schedule: " + e.getMessage());
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Result<Long> exportMatches(String owner, String sport, LocalDate matchDate, Consumer<MatchDTO> consumer) {
+		LOGGER.info("Exporting matches with filters - owner: {}, sport: {}, matchDate: {}", owner, sport, matchDate);
+
+		long exported = 0;
+		// Same owner normalization as the listings, so both return the same matches
+		MatchFilterKey filter = MatchFilterKey.of(sanitizeUserInput(owner, Sanitization.LOWERCASE), sport, matchDate);
+		// Spans the whole stream, including writing it to the client
+		MatchQueryEvent query = MatchQueryEvent.start("streamMatchExportRows", MatchQueryEvent.filterShape(filter));
+
+		try (Stream<MatchExportRow> rows = matchRepository.streamMatchExportRows(filter)) {
+			// Rows arrive ordered by match id, so a match is complete once the id changes
+			MatchDTO current = null;
+			for (Iterator<MatchExportRow> iterator = rows.iterator(); iterator.hasNext();) {
+				MatchExportRow row = iterator.next();
+				if (current == null || !current.getMatchId().equals(row.matchId())) {
+					if (current != null) {
+						consumer.accept(current);
+						exported++;
+					}
+					current = row.toMatchDTO();
+				}
+				if (row.specifier() != null) {
+					current.getOdds().add(row.toMatchOddsRow().toMatchOdds());
+				}
+			}
+			if (current != null) {
+				consumer.accept(current);
+				exported++;
+			}
+
+			query.end(exported);
+			LOGGER.info("Exported {} matches", exported);
+			return Result.ok(exported);
+		} catch (Exception e) {
+			LOGGER.error("Error exporting matches after {} matches", exported, e);
+			return Result.error("Failed to export matches: " + e.getMessage());
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Result<MatchScrollDTO> scrollMatches(int size, String sortBy, String direction, String owner, String sport,
+			LocalDate matchDate, String cursor) {
+		LOGGER.info(
+				"Scrolling matches with filters - size: {}, sortBy: {}, direction: {}, owner: {}, sport: {}, matchDate: {}",
+				size, sortBy, direction, owner, sport, matchDate);
+
+		Sort sort = getKeysetSort(sortBy, direction);
+		List<String> sortProperties = sort.stream().map(Sort.Order::getProperty).toList();
+
+		KeysetScrollPosition position;
+		try {
+			position = MatchCursor.decode(cursor, sortProperties);
+		} catch (IllegalArgumentException e) {
+			LOGGER.warn("Rejected cursor '{}': {}", cursor, e.getMessage());
+			return Result.error(e.getMessage());
+		}
+
+		try {
+			MatchFilterKey filter = MatchFilterKey.of(sanitizeUserInput(owner, Sanitization.LOWERCASE), sport,
+					matchDate);
+			MatchQueryEvent query = MatchQueryEvent.start("scroll", MatchQueryEvent.filterShape(filter));
+			// One extra row tells whether a next page exists
+			List<MatchDTO> matches = matchRepository.findMatchDTOsAfter(filter, sort, position.getKeys(), size + 1);
+			query.end(matches.size());
+
+			boolean hasNext = matches.size() > size;
+			List<MatchDTO> content = hasNext ? matches.subList(0, size) : matches;
+
+			MatchScrollDTO scrollDTO = new MatchScrollDTO();
+			scrollDTO.setContent(attachOdds(content));
+			scrollDTO.setHasNext(hasNext);
+			if (hasNext) {
+				scrollDTO.setNextCursor(MatchCursor.encode(
+						ScrollPosition.forward(keysetPosition(content.getLast(), sortProperties)), sortProperties));
+			}
+
+			return Result.ok(scrollDTO);
+		} catch (Exception e) {
+			LOGGER.error("Error scrolling matches", e);
+			return Result.error("Failed to scroll matches: " + e.getMessage());
+		}
+	}
+
 	@Override
 	@Transactional(rollbackFor = Exception.class)
 	public Result<MatchDTO> saveMatch(SaveMatchRequest saveMatchRequest) {
 		LOGGER.info("Trying to save match: {}", saveMatchRequest);
 
-		LocalDate matchDate = parseDate(saveMatchRequest.getMatchDate());
-		LocalTime matchTime = parseTime(saveMatchRequest.getMatchTime());
-		String teamA = sanitizeUserInput(saveMatchRequest.getTeamA(), Sanitization.UPPERCASE);
-		String teamB = sanitizeUserInput(saveMatchRequest.getTeamB(), Sanitization.UPPERCASE);
-		Sport sport = saveMatchRequest.getSport();
-
 		String currentUser = getCurrentUsername();
 		if (currentUser == null) {
 			return Result.error("Unauthorized: no user found in context");
 		}
 
-		boolean matchAlreadyExists = matchRepository.existsByTeamAAndTeamBAndMatchDateAndMatchTimeAndSport(teamA, teamB,
-				matchDate, matchTime, sport);
+		MatchServicePhaseEvent phase = MatchServicePhaseEvent.start("saveMatch", MatchServicePhaseEvent.MAPPING);
+		Match match = new Match();
+		mapRequestToMatch(saveMatchRequest, match, currentUser);
+		phase.commit();
 
-		if (matchAlreadyExists) {
+		// No exists check first: the fixture constraint rejects a duplicate in the
+		// INSERT itself, which also holds for two concurrent saves of the same match
+		phase = MatchServicePhaseEvent.start("saveMatch", MatchServicePhaseEvent.PERSISTENCE);
+		try {
+			matchRepository.saveAndFlush(match);
+		} catch (DataIntegrityViolationException e) {
+			if (!isFixtureViolation(e)) {
+				throw e;
+			}
+			// The failed INSERT leaves the session unusable, so end without committing
+			TransactionInterceptor.currentTransactionStatus().setRollbackOnly();
 			LOGGER.warn("Match: {}, already exists. Aborting persistence.", saveMatchRequest);
-			return Result.error(sport + " match between " + teamA + " and " + teamB + " at " + matchDate + " "
-					+ matchTime + " already exists");
+			return Result.error(fixtureExistsError(match));
 		}
+		phase.commit();
 
-		Match match = new Match();
-		mapRequestToMatch(saveMatchRequest, match);
-		matchRepository.save(match);
+		eventPublisher.publishEvent(new MatchChangedEvent(match.getId(), List.of(MatchFilterKey.of(match))));
 
 		LOGGER.info("Match: {}, successfully saved", match);
-		return Result.ok(getMatchDTO(match));
+		phase = MatchServicePhaseEvent.start("saveMatch", MatchServicePhaseEvent.DTO_MAPPING);
+		MatchDTO matchDTO = getMatchDTO(match);
+		phase.commit();
+		return Result.ok(matchDTO);
+	}
+
+	/**
+	 * Not {@code @Transactional}: each attempt to save the batch runs in its own
+	 * transaction, so a batch that collides with a concurrent save can be retried
+	 * without the colliding items.
+	 */
+	@Override
+	public Result<List<MatchBatchItemDTO>> saveMatches(List<SaveMatchRequest> saveMatchRequests) {
+		LOGGER.info("Trying to save a batch of {} matches", saveMatchRequests.size());
+
+		if (saveMatchRequests.size() > MAX_BATCH_SIZE) {
+			return Result.error("Invalid batch size: at most " + MAX_BATCH_SIZE + " matches per request");
+		}
+
+		String currentUser = getCurrentUsername();
+		if (currentUser == null) {
+			return Result.error("Unauthorized: no user found in context");
+		}
+
+		List<MatchBatchItemDTO> results = new ArrayList<>(saveMatchRequests.size());
+		Map<Integer, Match> candidates = new LinkedHashMap<>();
+
+		// Valid items are mapped as soon as they pass, so this phase includes their mapping
+		MatchServicePhaseEvent phase = MatchServicePhaseEvent.start("saveMatches",
+				MatchServicePhaseEvent.VALIDATION);
+		for (int i = 0; i < saveMatchRequests.size(); i++) {
+			SaveMatchRequest request = saveMatchRequests.get(i);
+			MatchBatchItemDTO item = new MatchBatchItemDTO();
+			item.setIndex(i);
+			results.add(item);
+
+			List<String> errors = request == null
+					? List.of("Match is required")
+					: validator.validate(request).stream().map(ConstraintViolation::getMessage).sorted().toList();
+			if (errors.isEmpty()) {
+				try {
+					Match match = new Match();
+					mapRequestToMatch(request, match, currentUser);
+					candidates.put(i, match);
+					continue;
+				} catch (DateTimeParseException e) {
+					errors = List.of("Invalid date or time: " + e.getParsedString());
+				}
+			}
+
+			item.setStatus(BatchItemStatus.INVALID);
+			item.setErrors(errors);
+		}
+		phase.commit();
+
+		// A caller's transaction is joined, and the failed INSERT dooms it, so there is
+		// nothing left to retry in
+		boolean retryable = !TransactionSynchronizationManager.isActualTransactionActive();
+		List<Match> saved;
+		try {
+			saved = transactionTemplate.execute(status -> saveCandidates(candidates, results));
+		} catch (DataIntegrityViolationException e) {
+			if (!isFixtureViolation(e) || !retryable) {
+				return batchCollision(e, candidates.size());
+			}
+			LOGGER.warn("Batch of {} matches collided with a concurrent save, retrying without the duplicates",
+					candidates.size());
+			// The rolled back entities keep the ids of the failed attempt, so the retry
+			// maps the requests afresh
+			candidates.replaceAll((index, match) -> {
+				Match retried = new Match();
+				mapRequestToMatch(saveMatchRequests.get(index), retried, currentUser);
+				return retried;
+			});
+			try {
+				saved = transactionTemplate.execute(status -> saveCandidates(candidates, results));
+			} catch (DataIntegrityViolationException again) {
+				return batchCollision(again, candidates.size());
+			}
+		}
+
+		LOGGER.info("Saved {} of {} matches in batch", saved.size(), saveMatchRequests.size());
+		return Result.ok(results);
+	}
+
+	/**
+	 * Saves the candidates that are neither stored yet nor repeats of an earlier
+	 * item, marking the others as duplicates. Runs inside one attempt's
+	 * transaction; a match saved concurrently after the duplicate check fails the
+	 * flush on the fixture constraint.
+	 *
+	 * @return the saved matches
+	 */
+	private List<Match> saveCandidates(Map<Integer, Match> candidates, List<MatchBatchItemDTO> results) {
+		// One query for the whole batch instead of an exists check per item
+		MatchServicePhaseEvent phase = MatchServicePhaseEvent.start("saveMatches",
+				MatchServicePhaseEvent.DUPLICATE_CHECK);
+		Set<MatchIdentity> existing = matchRepository.findExistingIdentities(
+				candidates.values().stream().map(MatchIdentity::of).collect(Collectors.toSet()));
+		phase.commit();
+		Set<MatchIdentity> accepted = new HashSet<>();
+
+		List<Match> matchesToSave = new ArrayList<>(candidates.size());
+		candidates.forEach((index, match) -> {
+			MatchIdentity identity = MatchIdentity.of(match);
+			// Also rejects a repeat of an earlier item in the same batch
+			if (existing.contains(identity) || !accepted.add(identity)) {
+				results.get(index).setStatus(BatchItemStatus.DUPLICATE);
+				results.get(index).setErrors(List.of(fixtureExistsError(match)));
+				return;
+			}
+			matchesToSave.add(match);
+		});
+
+		// Ids come from the pooled sequence, so the inserts are batched at flush time
+		phase = MatchServicePhaseEvent.start("saveMatches", MatchServicePhaseEvent.PERSISTENCE);
+		matchRepository.saveAll(matchesToSave);
+		// Flushed here so a match another request saved after the duplicate check
+		// fails on the fixture constraint inside this attempt
+		matchRepository.flush();
+		phase.commit();
+
+		candidates.forEach((index, match) -> {
+			if (results.get(index).getStatus() == null) {
+				results.get(index).setStatus(BatchItemStatus.CREATED);
+				results.get(index).setMatchId(match.getId());
+			}
+		});
+
+		// Published inside the transaction, so the caches are invalidated once it commits
+		if (!matchesToSave.isEmpty()) {
+			eventPublisher.publishEvent(new MatchChangedEvent(null,
+					matchesToSave.stream().map(MatchFilterKey::of).distinct().toList()));
+		}
+		return matchesToSave;
+	}
+
+	private static Result<List<MatchBatchItemDTO>> batchCollision(DataIntegrityViolationException e, int size) {
+		if (!isFixtureViolation(e)) {
+			throw e;
+		}
+		LOGGER.warn("Batch of {} matches collided with a concurrent save, nothing was saved", size);
+		return Result.error("A match of the batch already exists, it was saved concurrently; nothing was saved");
 	}
 
 	@Transactional(rollbackFor = Exception.class)
@@ -118,40 +487,113 @@ public class MatchServiceImpl implements MatchService {
 			return Result.error("You do not have permission to update this match");
 		}
 
-		mapRequestToMatch(updateRequest, match);
+		MatchFilterKey previousKey = MatchFilterKey.of(match);
+		MatchServicePhaseEvent phase = MatchServicePhaseEvent.start("updateMatch", MatchServicePhaseEvent.MAPPING);
+		boolean oddsChanged = mapRequestToMatch(updateRequest, match, currentUser);
+		phase.commit();
+
+		phase = MatchServicePhaseEvent.start("updateMatch", MatchServicePhaseEvent.PERSISTENCE);
+		try {
+			Long previousVersion = match.getVersion();
+			matchRepository.save(match);
+			// Flush so the returned DTO carries the bumped version for the next PATCH
+			matchRepository.flush();
+			// Changed odds rows alone leave the matches row untouched, but PATCH .../odds
+			// guards the odds with its version
+			if (oddsChanged && Objects.equals(previousVersion, match.getVersion())) {
+				matchRepository.forceVersionIncrement(match);
+			}
+		} catch (DataIntegrityViolationException e) {
+			if (!isFixtureViolation(e)) {
+				throw e;
+			}
+			TransactionInterceptor.currentTransactionStatus().setRollbackOnly();
+			return Result.error(fixtureExistsError(match));
+		}
+		phase.commit();
 
-		matchRepository.save(match);
+		eventPublisher.publishEvent(new MatchChangedEvent(matchId, List.of(previousKey, MatchFilterKey.of(match))));
 
 		LOGGER.info("Match with ID {} updated successfully", matchId);
-		return Result.ok(getMatchDTO(match));
+		phase = MatchServicePhaseEvent.start("updateMatch", MatchServicePhaseEvent.DTO_MAPPING);
+		MatchDTO matchDTO = getMatchDTO(match);
+		phase.commit();
+		return Result.ok(matchDTO);
 	}
 
 	@Override
 	@Transactional
-	public Result<Void> deleteMatch(Long matchId) {
-		try {
-			LOGGER.info("Attempting to delete match with id: {}", matchId);
+	public Result<MatchOddsDTO> updateMatchOdds(Long matchId, UpdateOddsRequest updateOddsRequest) {
+		LOGGER.info("Updating odds of match with ID {}: {}", matchId, updateOddsRequest);
 
-			Optional<Match> matchOpt = matchRepository.findById(matchId);
+		String currentUser = getCurrentUsername();
+		if (currentUser == null) {
+			return Result.error("Unauthorized: no user found in context");
+		}
 
-			if (matchOpt.isEmpty()) {
-				LOGGER.warn("Match with id {} not found", matchId);
+		int updated = matchRepository.incrementVersionByIdAndOwner(matchId, currentUser,
+				updateOddsRequest.getVersion());
+
+		if (updated == 0) {
+			// Only the failure path reads the match to tell the three cases apart
+			Optional<Match> optionalMatch = matchRepository.findById(matchId);
+			if (optionalMatch.isEmpty()) {
 				return Result.error("NOT_FOUND: Match with id " + matchId + " does not exist.");
 			}
+			if (!isCurrentUserEqualToMatchOwner(currentUser, optionalMatch.get())) {
+				return Result.error("You do not have permission to update this match");
+			}
+
+			LOGGER.warn("Stale odds update for match {}: expected version {}, current {}", matchId,
+					updateOddsRequest.getVersion(), optionalMatch.get().getVersion());
+			return Result.error("CONFLICT: Match with id " + matchId + " was modified concurrently, current version is "
+					+ optionalMatch.get().getVersion());
+		}
+
+		Map<Specifier, Double> odds = new EnumMap<>(Specifier.class);
+		updateOddsRequest.getOdds().forEach(odd -> odds.put(odd.getSpecifier(), odd.getOdd()));
+
+		matchRepository.updateOddsByMatchId(matchId, odds.get(Specifier.WIN), odds.get(Specifier.DRAW),
+				odds.get(Specifier.LOSE));
+
+		// Odds do not move a match between filters, so caches only drop entries
+		// holding this match
+		eventPublisher.publishEvent(new MatchChangedEvent(matchId, List.of()));
+
+		MatchOddsDTO matchOddsDTO = new MatchOddsDTO();
+		matchOddsDTO.setMatchId(matchId);
+		matchOddsDTO.setVersion(updateOddsRequest.getVersion() + 1);
+		matchOddsDTO.setOdds(updateOddsRequest.getOdds());
+
+		LOGGER.info("Odds of match with ID {} updated successfully", matchId);
+		return Result.ok(matchOddsDTO);
+	}
+
+	@Override
+	@Transactional
+	public Result<Void> deleteMatch(Long matchId) {
+		try {
+			LOGGER.info("Attempting to delete match with id: {}", matchId);
 
 			String currentUser = getCurrentUsername();
 			if (currentUser == null) {
 				return Result.error("Unauthorized: no user found in context");
 			}
 
-			Match match = matchOpt.get();
+			Optional<MatchFilterKey> deletedKey = matchRepository.deleteByIdAndOwner(matchId, currentUser);
+
+			if (deletedKey.isEmpty()) {
+				// Only the failure path needs a second look to tell the two cases apart
+				if (!matchRepository.existsById(matchId)) {
+					LOGGER.warn("Match with id {} not found", matchId);
+					return Result.error("NOT_FOUND: Match with id " + matchId + " does not exist.");
+				}
 
-			boolean isCurrentUserEqualToMatchOwner = isCurrentUserEqualToMatchOwner(currentUser, match);
-			if (!isCurrentUserEqualToMatchOwner) {
+				LOGGER.warn("User {} attempted to delete match {} owned by another user", currentUser, matchId);
 				return Result.error("You do not have permission to update this match");
 			}
 
-			matchRepository.delete(matchOpt.get());
+			eventPublisher.publishEvent(new MatchChangedEvent(matchId, List.of(deletedKey.get())));
 
 			LOGGER.info("Deleted match with id: {}", matchId);
 
@@ -162,17 +604,43 @@ public class MatchServiceImpl implements MatchService {
 		}
 	}
 
-	private MatchDTO getMatchDTO(Match match) {
-		MatchDTO matchDTO = new MatchDTO();
+	private Page<MatchDTO> findPageWithCachedTotal(Pageable pageable, MatchFilterKey filter) {
+		Slice<MatchDTO> slice = matchRepository.findMatchDTOSlice(filter, pageable);
+		long total = matchCountCache.getTotal(filter, () -> matchRepository.countMatches(filter));
+
+		return new PageImpl<>(slice.getContent(), pageable, total);
+	}
+
+	/**
+	 * Loads the odds of all given matches in a single query and sets them on the
+	 * DTOs, so a page costs one odds query instead of one per match.
+	 */
+	private List<MatchDTO> attachOdds(List<MatchDTO> matches) {
+		if (matches.isEmpty()) {
+			return matches;
+		}
+
+		List<Long> matchIds = matches.stream().map(MatchDTO::getMatchId).toList();
+
+		MatchQueryEvent query = MatchQueryEvent.start("findOddsRowsByMatchIdIn", "matchId");
+		List<MatchOddsRow> oddsRows = matchRepository.findOddsRowsByMatchIdIn(matchIds);
+		query.end(oddsRows.size());
+
+		Map<Long, List<com.mybetapp.models.MatchOdds>> oddsByMatchId = oddsRows.stream().collect(Collectors
+				.groupingBy(MatchOddsRow::matchId, Collectors.mapping(MatchOddsRow::toMatchOdds, Collectors.toList())));
 
-		matchDTO.setMatchId(match.getId());
-		matchDTO.setMatchOwner(match.getOwner());
-		matchDTO.setDescription(match.getDescription());
-		matchDTO.setMatchDate(match.getMatchDate());
-		matchDTO.setMatchTime(match.getMatchTime());
-		matchDTO.setTeamA(match.getTeamA());
-		matchDTO.setTeamB(match.getTeamB());
-		matchDTO.setSport(match.getSport());
+		matches.forEach(matchDTO -> matchDTO.setOdds(oddsByMatchId.getOrDefault(matchDTO.getMatchId(), List.of())));
+		return matches;
+	}
+
+	private MatchDTO toMatchDTO(Match match) {
+		return new MatchDTO(match.getId(), match.getOwner(), match.getDescription(), match.getMatchDate(),
+				match.getMatchTime(), match.getTeamA(), match.getTeamB(), match.getSport(),
+				match.getVersion());
+	}
+
+	private MatchDTO getMatchDTO(Match match) {
+		MatchDTO matchDTO = toMatchDTO(match);
 
 		List<com.mybetapp.models.MatchOdds> oddsDtoList = match.getOdds().stream().map(entityOdd -> {
 			com.mybetapp.models.MatchOdds dtoOdd = new com.mybetapp.models.MatchOdds();
@@ -186,8 +654,11 @@ public class MatchServiceImpl implements MatchService {
 		return matchDTO;
 	}
 
-	private void mapRequestToMatch(SaveMatchRequest request, Match match) {
-		match.setOwner(getCurrentUsername());
+	/**
+	 * @return whether the odds rows changed
+	 */
+	private boolean mapRequestToMatch(SaveMatchRequest request, Match match, String owner) {
+		match.setOwner(owner);
 		match.setDescription(sanitizeUserInput(request.getDescription(), Sanitization.UPPERCASE));
 		match.setMatchDate(parseDate(request.getMatchDate()));
 		match.setMatchTime(parseTime(request.getMatchTime()));
@@ -195,24 +666,47 @@ public class MatchServiceImpl implements MatchService {
 		match.setTeamB(sanitizeUserInput(request.getTeamB(), Sanitization.UPPERCASE));
 		match.setSport(request.getSport());
 
-		// Clear odds before setting new ones to avoid duplicates on update
-		match.getOdds().clear();
+		return mergeOdds(request.getOdds(), match);
+	}
 
-		request.getOdds().forEach(dto -> {
-			MatchOdds odd = new MatchOdds();
-			odd.setSpecifier(dto.getSpecifier());
-			odd.setOdd(dto.getOdd());
-			odd.setMatch(match);
-			match.getOdds().add(odd);
-		});
+	/**
+	 * Updates the existing odds rows in place, keyed by specifier, so dirty
+	 * checking only writes the values that actually changed. Rows are inserted or
+	 * removed only when a specifier is added or dropped.
+	 *
+	 * @return whether any odds row was added, changed or removed
+	 */
+	private boolean mergeOdds(List<com.mybetapp.models.MatchOdds> requestedOdds, Match match) {
+		Map<Specifier, MatchOdds> existingOdds = new EnumMap<>(Specifier.class);
+		match.getOdds().forEach(odd -> existingOdds.put(odd.getSpecifier(), odd));
+
+		Set<Specifier> requestedSpecifiers = EnumSet.noneOf(Specifier.class);
+		boolean changed = false;
+		for (com.mybetapp.models.MatchOdds dto : requestedOdds) {
+			requestedSpecifiers.add(dto.getSpecifier());
+
+			MatchOdds odd = existingOdds.get(dto.getSpecifier());
+			if (odd == null) {
+				odd = new MatchOdds();
+				odd.setSpecifier(dto.getSpecifier());
+				odd.setMatch(match);
+				match.getOdds().add(odd);
+			}
+			if (!Objects.equals(odd.getOdd(), dto.getOdd())) {
+				odd.setOdd(dto.getOdd());
+				changed = true;
+			}
+		}
+
+		return match.getOdds().removeIf(odd -> !requestedSpecifiers.contains(odd.getSpecifier())) || changed;
 	}
 
 	private LocalDate parseDate(String dateStr) {
-		return LocalDate.parse(dateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+		return LocalDate.parse(dateStr, MATCH_DATE_FORMAT);
 	}
 
 	private LocalTime parseTime(String timeStr) {
-		return LocalTime.parse(timeStr, DateTimeFormatter.ofPattern("HH:mm"));
+		return LocalTime.parse(timeStr, MATCH_TIME_FORMAT);
 	}
 
 	private String getCurrentUsername() {
@@ -228,18 +722,13 @@ public class MatchServiceImpl implements MatchService {
 			return null;
 		}
 
+		// trim() and the case conversions return the same instance when there is
+		// nothing to change, so already-clean input allocates nothing
 		if (Sanitization.LOWERCASE.equals(sanitization)) {
-			return input.trim().toLowerCase();
+			return input.trim().toLowerCase(Locale.ROOT);
 		}
 
-		return input.trim().toUpperCase();
-	}
-
-	private String sanitize(String input) {
-		if (input == null) {
-			return null;
-		}
-		return input.trim().toUpperCase();
+		return input.trim().toUpperCase(Locale.ROOT);
 	}
 
 	private boolean isCurrentUserEqualToMatchOwner(String currentUser, Match match) {
@@ -253,51 +742,45 @@ public class MatchServiceImpl implements MatchService {
 		return isOwner;
 	}
 
-	private Sort getSort(String sortBy, String direction) {
-		boolean isDesc = "desc".equalsIgnoreCase(direction);
+	private static String fixtureExistsError(Match match) {
+		return match.getSport() + " match between " + match.getTeamA() + " and " + match.getTeamB() + " at "
+				+ match.getMatchDate() + " " + match.getMatchTime() + " already exists";
+	}
 
-		return switch (sortBy) {
-			case "owner" -> {
-				LOGGER.info("Sorting by 'owner' in {} order", direction);
-				yield Sort.by(isDesc ? Sort.Order.desc("owner") : Sort.Order.asc("owner"),
-						isDesc ? Sort.Order.desc("matchDate") : Sort.Order.asc("matchDate"));
-			}
+	// H2 reports the name of the backing index, which starts with the constraint name
+	private static boolean isFixtureViolation(DataIntegrityViolationException e) {
+		return e.getCause() instanceof ConstraintViolationException violation
+				&& violation.getConstraintName() != null && violation.getConstraintName().toLowerCase(Locale.ROOT)
+						.contains(Match.FIXTURE_CONSTRAINT);
+	}
 
-			case "sport" -> {
-				LOGGER.info("Sorting by 'sport' in {} order", direction);
-				yield Sort.by(isDesc ? Sort.Order.desc("sport") : Sort.Order.asc("sport"),
-						isDesc ? Sort.Order.desc("matchDate") : Sort.Order.asc("matchDate"));
-			}
+	/**
+	 * Keyset pagination needs a total order, so the {@link MatchSorts#of} orderings are
+	 * completed with matchTime and id as tie-breakers in the leading direction.
+	 */
+	private Sort getKeysetSort(String sortBy, String direction) {
+		Sort sort = MatchSorts.of(sortBy, direction);
+		Sort.Direction tieBreakDirection = sort.iterator().next().getDirection();
 
-			case "matchDate" -> {
-				LOGGER.info("Sorting by 'matchDate' and 'matchTime' in {} order", direction);
-				yield Sort.by(isDesc
-						? List.of(Sort.Order.desc("matchDate"), Sort.Order.desc("matchTime"))
-						: List.of(Sort.Order.asc("matchDate"), Sort.Order.asc("matchTime")));
-			}
+		if (sort.getOrderFor("matchTime") == null) {
+			sort = sort.and(Sort.by(tieBreakDirection, "matchTime"));
+		}
 
-			default -> {
-				LOGGER.warn("Unknown sortBy value '{}', defaulting to 'matchDate' descending", sortBy);
-				yield Sort.by(Sort.Order.desc("matchDate"));
-			}
-		};
+		return sort.and(Sort.by(tieBreakDirection, "id"));
 	}
 
-	private Specification<Match> buildMatchSpecification(String owner, String sport, LocalDate matchDate) {
-		return (root, query, cb) -> {
-			List<Predicate> predicates = new ArrayList<>();
-
-			if (owner != null && !owner.isEmpty()) {
-				predicates.add(cb.equal(root.get("owner"), owner));
-			}
-			if (sport != null && !sport.isEmpty()) {
-				predicates.add(cb.equal(root.get("sport"), sport));
-			}
-			if (matchDate != null) {
-				predicates.add(cb.equal(root.get("matchDate"), matchDate));
-			}
-
-			return cb.and(predicates.toArray(new Predicate[0]));
-		};
+	private static Map<String, Object> keysetPosition(MatchDTO match, List<String> sortProperties) {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		for (String property : sortProperties) {
+			keys.put(property, switch (property) {
+				case "owner" -> match.getMatchOwner();
+				case "sport" -> match.getSport();
+				case "matchDate" -> match.getMatchDate();
+				case "matchTime" -> match.getMatchTime();
+				case "id" -> match.getMatchId();
+				default -> throw new IllegalArgumentException("Unsupported sort property: " + property);
+			});
+		}
+		return keys;
 	}
 }
@@ -0,0 +1,34 @@
+package com.mybetapp.util;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The kick-off range [{@code from}, {@code to}) of a match listing, built from
+ * its {@code from}/{@code to} or {@code upcomingHours} parameters. Shared by the
+ * servlet and reactive listings so both accept the same combinations. Either
+ * bound may be open.
+ */
+public record KickOffRange(LocalDateTime from, LocalDateTime to) {
+
+	// A week ahead; wider views should page through explicit from/to ranges
+	public static final int MAX_UPCOMING_HOURS = 168;
+
+	public static Result<KickOffRange> of(LocalDateTime from, LocalDateTime to, Integer upcomingHours) {
+		if (upcomingHours != null) {
+			if (from != null || to != null) {
+				return Result.error("Invalid range: upcomingHours cannot be combined with from or to");
+			}
+			if (upcomingHours < 1 || upcomingHours > MAX_UPCOMING_HOURS) {
+				return Result.error("Invalid range: upcomingHours must be between 1 and " + MAX_UPCOMING_HOURS);
+			}
+			// Whole minutes, so requests within the same minute share a cached page
+			LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+			return Result.ok(new KickOffRange(now, now.plusHours(upcomingHours)));
+		}
+		if (from != null && to != null && !from.isBefore(to)) {
+			return Result.error("Invalid range: from must be before to");
+		}
+		return Result.ok(new KickOffRange(from, to));
+	}
+}
@@ -0,0 +1,98 @@
+package com.mybetapp.util;
+
+import com.mybetapp.enums.Sport;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+/**
+ * Opaque continuation token for keyset pagination of matches. The token carries
+ * the sort key values of the last row that was returned, so the next page can be
+ * fetched with an index seek instead of an offset scan.
+ */
+public final class MatchCursor {
+
+	private static final String ID = "id";
+	private static final String MALFORMED = "Invalid cursor: it is malformed or truncated";
+
+	private MatchCursor() {
+	}
+
+	public static String encode(KeysetScrollPosition position, List<String> sortProperties) {
+		StringJoiner joiner = new StringJoiner("&");
+
+		for (String property : sortProperties) {
+			Object value = position.getKeys().get(property);
+			joiner.add(value == null
+					? property
+					: property + "=" + URLEncoder.encode(value.toString(), StandardCharsets.UTF_8));
+		}
+
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a token produced by {@link #encode}. The token must have been issued
+	 * for the same sort properties, otherwise it does not describe a position in the
+	 * requested ordering. A token that is not one {@link #encode} could have
+	 * produced is rejected as malformed rather than as issued for another sort.
+	 */
+	public static KeysetScrollPosition decode(String cursor, List<String> sortProperties) {
+		if (cursor == null || cursor.isBlank()) {
+			return ScrollPosition.keyset();
+		}
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		try {
+			String payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+			for (String pair : payload.split("&")) {
+				int separator = pair.indexOf('=');
+				String property = separator < 0 ? pair : pair.substring(0, separator);
+				String value = separator < 0
+						? null
+						: URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+				if (keys.containsKey(property)) {
+					throw new IllegalArgumentException("duplicate property '" + property + "'");
+				}
+				keys.put(property, value == null ? null : parseValue(property, value));
+			}
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new IllegalArgumentException(MALFORMED, e);
+		}
+
+		// Every sort ends with the id tie-breaker, so a token without it was cut short
+		if (keys.get(ID) == null || !ID.equals(List.copyOf(keys.keySet()).getLast())) {
+			throw new IllegalArgumentException(MALFORMED);
+		}
+
+		if (!List.copyOf(keys.keySet()).equals(sortProperties)) {
+			throw new IllegalArgumentException("Invalid cursor: it was issued for a different sort order");
+		}
+
+		return ScrollPosition.forward(keys);
+	}
+
+	private static Object parseValue(String property, String value) {
+		return switch (property) {
+			case "owner" -> value;
+			case "sport" -> Sport.valueOf(value);
+			case "matchDate" -> LocalDate.parse(value);
+			case "matchTime" -> LocalTime.parse(value);
+			case ID -> Long.parseLong(value);
+			default -> throw new IllegalArgumentException("unknown property '" + property + "'");
+		};
+	}
+}
@@ -0,0 +1,60 @@
+package com.mybetapp.util;
+
+import com.mybetapp.entities.Match;
+import com.mybetapp.enums.Sport;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The (owner, sport, matchDate) filter of a match listing, optionally narrowed
+ * to kick-offs in [{@code from}, {@code to}). A {@code null} component matches
+ * any value, so the key of a concrete match has owner, sport and matchDate set
+ * while a listing filter may leave some of them open.
+ */
+public record MatchFilterKey(String owner, Sport sport, LocalDate matchDate, LocalDateTime from, LocalDateTime to) {
+
+	// Bits of mask(), one per filter that is set
+	public static final int OWNER = 1;
+	public static final int SPORT = 2;
+	public static final int MATCH_DATE = 4;
+	public static final int FROM = 8;
+	public static final int TO = 16;
+
+	public MatchFilterKey(String owner, Sport sport, LocalDate matchDate) {
+		this(owner, sport, matchDate, null, null);
+	}
+
+	public static MatchFilterKey of(Match match) {
+		return new MatchFilterKey(match.getOwner(), match.getSport(), match.getMatchDate());
+	}
+
+	public static MatchFilterKey of(String owner, String sport, LocalDate matchDate) {
+		return new MatchFilterKey(owner == null || owner.isEmpty() ? null : owner,
+				sport == null || sport.isEmpty() ? null : Sport.fromString(sport), matchDate);
+	}
+
+	public MatchFilterKey withRange(LocalDateTime from, LocalDateTime to) {
+		return new MatchFilterKey(owner, sport, matchDate, from, to);
+	}
+
+	/**
+	 * Which of the filters are set, as a combination of {@link #OWNER},
+	 * {@link #SPORT}, {@link #MATCH_DATE}, {@link #FROM} and {@link #TO}.
+	 */
+	public int mask() {
+		return (owner == null ? 0 : OWNER) | (sport == null ? 0 : SPORT) | (matchDate == null ? 0 : MATCH_DATE)
+				| (from == null ? 0 : FROM) | (to == null ? 0 : TO);
+	}
+
+	/**
+	 * Whether a listing with this filter could contain the match identified by the
+	 * given key. Match keys carry no kick-off time, so a range covers every match
+	 * on a day it touches.
+	 */
+	public boolean covers(MatchFilterKey match) {
+		return (owner == null || owner.equals(match.owner())) && (sport == null || sport == match.sport())
+				&& (matchDate == null || matchDate.equals(match.matchDate()))
+				&& (from == null || !match.matchDate().isBefore(from.toLocalDate()))
+				&& (to == null || !match.matchDate().isAfter(to.toLocalDate()));
+	}
+}
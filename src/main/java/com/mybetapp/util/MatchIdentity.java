@@ -0,0 +1,18 @@
+package com.mybetapp.util;
+
+import com.mybetapp.entities.Match;
+import com.mybetapp.enums.Sport;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * The natural key of a match: two matches with the same teams, sport, date and
+ * time are duplicates regardless of owner or description.
+ */
+public record MatchIdentity(String teamA, String teamB, LocalDate matchDate, LocalTime matchTime, Sport sport) {
+
+	public static MatchIdentity of(Match match) {
+		return new MatchIdentity(match.getTeamA(), match.getTeamB(), match.getMatchDate(), match.getMatchTime(),
+				match.getSport());
+	}
+}
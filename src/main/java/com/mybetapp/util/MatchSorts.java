@@ -0,0 +1,49 @@
+package com.mybetapp.util;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The orderings behind the {@code sortBy}/{@code direction} parameters of the
+ * match listings. Shared by the JPA and the reactive read paths so both return
+ * matches in the same order.
+ */
+public final class MatchSorts {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MatchSorts.class);
+
+	private MatchSorts() {
+	}
+
+	public static Sort of(String sortBy, String direction) {
+		boolean isDesc = "desc".equalsIgnoreCase(direction);
+
+		return switch (sortBy) {
+			case "owner" -> {
+				LOGGER.info("Sorting by 'owner' in {} order", direction);
+				yield Sort.by(isDesc ? Sort.Order.desc("owner") : Sort.Order.asc("owner"),
+						isDesc ? Sort.Order.desc("matchDate") : Sort.Order.asc("matchDate"));
+			}
+
+			case "sport" -> {
+				LOGGER.info("Sorting by 'sport' in {} order", direction);
+				yield Sort.by(isDesc ? Sort.Order.desc("sport") : Sort.Order.asc("sport"),
+						isDesc ? Sort.Order.desc("matchDate") : Sort.Order.asc("matchDate"));
+			}
+
+			case "matchDate" -> {
+				LOGGER.info("Sorting by 'matchDate' and 'matchTime' in {} order", direction);
+				yield Sort.by(isDesc
+						? List.of(Sort.Order.desc("matchDate"), Sort.Order.desc("matchTime"))
+						: List.of(Sort.Order.asc("matchDate"), Sort.Order.asc("matchTime")));
+			}
+
+			default -> {
+				LOGGER.warn("Unknown sortBy value '{}', defaulting to 'matchDate' descending", sortBy);
+				yield Sort.by(Sort.Order.desc("matchDate"));
+			}
+		};
+	}
+}
@@ -2,7 +2,9 @@ package com.mybetapp.validations;
 
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -49,4 +51,11 @@ public class GlobalExceptionHandler {
 
 		return ResponseEntity.badRequest().body(Map.of("error", "Invalid request"));
 	}
+
+	// A concurrent write bumped the match version between our read and our flush
+	@ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+	public ResponseEntity<?> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(Map.of("error", "CONFLICT: Match was modified concurrently, reload and retry"));
+	}
 }
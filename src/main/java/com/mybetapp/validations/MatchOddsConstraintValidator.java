@@ -1,18 +1,19 @@
 package com.mybetapp.validations;
 
+import com.mybetapp.enums.Specifier;
 import com.mybetapp.models.MatchOdds;
-import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.models.MatchOddsRequest;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
-public class MatchOddsConstraintValidator implements ConstraintValidator<ValidMatchOdds, SaveMatchRequest> {
+public class MatchOddsConstraintValidator implements ConstraintValidator<ValidMatchOdds, MatchOddsRequest> {
+
+	// Shared across calls; iterated once per validated request
+	private static final Specifier[] REQUIRED_SPECIFIERS = Specifier.values();
 
 	@Override
-	public boolean isValid(SaveMatchRequest value, ConstraintValidatorContext context) {
+	public boolean isValid(MatchOddsRequest value, ConstraintValidatorContext context) {
 		if (value == null || value.getOdds() == null) {
 			return true; // Let other validations handle null cases
 		}
@@ -27,16 +28,24 @@ public class MatchOddsConstraintValidator implements ConstraintValidator<ValidMa
 			return false;
 		}
 
-		// Count specifiers, case-insensitive
-		Map<String, Long> specifierCounts = odds.stream().map(matchOdd -> matchOdd.getSpecifier().name().toUpperCase())
-				.collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+		// One pass over the odds, one bit per specifier: seen once, or seen again
+		// Missing specifiers are reported by @NotNull on the item itself
+		int seen = 0;
+		int repeated = 0;
+		for (int i = 0; i < odds.size(); i++) {
+			MatchOdds matchOdd = odds.get(i);
+			if (matchOdd == null || matchOdd.getSpecifier() == null) {
+				continue;
+			}
+			int bit = 1 << matchOdd.getSpecifier().ordinal();
+			repeated |= seen & bit;
+			seen |= bit;
+		}
 
 		// Must contain WIN, DRAW, and LOSE exactly once
-		List<String> requiredSpecifiers = List.of("WIN", "DRAW", "LOSE");
-
-		for (String specifier : requiredSpecifiers) {
-			Long count = specifierCounts.get(specifier);
-			if (count == null || count != 1) {
+		for (Specifier specifier : REQUIRED_SPECIFIERS) {
+			int bit = 1 << specifier.ordinal();
+			if ((seen & bit) == 0 || (repeated & bit) != 0) {
 				context.disableDefaultConstraintViolation();
 				context.buildConstraintViolationWithTemplate("Must have exactly one '" + specifier + "' specifier")
 						.addPropertyNode("error").addConstraintViolation();
@@ -0,0 +1,35 @@
+-- Schema the entities mapped before migrations were introduced
+
+-- Pooled by 50 to match allocationSize of the entity sequence generators
+create sequence matches_seq start with 1 increment by 50;
+create sequence match_odds_seq start with 1 increment by 50;
+
+create table matches (
+	id bigint not null,
+	owner varchar(255) not null,
+	description varchar(255),
+	match_date date not null,
+	match_time time not null,
+	team_a varchar(255) not null,
+	team_b varchar(255) not null,
+	sport varchar(255),
+	version bigint,
+	primary key (id)
+);
+
+-- Backs the keyset seek on (matchDate, matchTime, id)
+create index idx_matches_date_time_id on matches (match_date, match_time, id);
+
+create table match_odds (
+	id bigint not null,
+	match_id bigint not null,
+	specifier varchar(255),
+	odd double precision not null,
+	primary key (id),
+	-- Lets a single DELETE on matches remove the odds too
+	constraint fk_match_odds_match foreign key (match_id) references matches (id) on delete cascade
+);
+
+-- Postgres does not index foreign keys; odds lookups, the export join and the
+-- delete cascade all go through match_id
+create index idx_match_odds_match_id on match_odds (match_id);
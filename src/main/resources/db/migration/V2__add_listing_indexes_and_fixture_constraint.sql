@@ -0,0 +1,6 @@
+-- Owner and sport filters, each followed by the date order the listings sort on
+create index idx_matches_owner_date_time on matches (owner, match_date, match_time);
+create index idx_matches_sport_date_time on matches (sport, match_date, match_time);
+
+-- One match per fixture; saveMatch and saveMatches rely on it instead of checking first
+alter table matches add constraint uk_matches_fixture unique (team_a, team_b, match_date, match_time, sport);
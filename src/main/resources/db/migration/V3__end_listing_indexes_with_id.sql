@@ -0,0 +1,6 @@
+-- The keyset scroll seeks on (owner | sport, match_date, match_time, id), so the filter indexes end with id like
+-- idx_matches_date_time_id and serve both the filtered listings and those orderings
+drop index idx_matches_owner_date_time;
+drop index idx_matches_sport_date_time;
+create index idx_matches_owner_date_time_id on matches (owner, match_date, match_time, id);
+create index idx_matches_sport_date_time_id on matches (sport, match_date, match_time, id);
@@ -0,0 +1,82 @@
+package com.mybetapp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mybetapp.enums.Sport;
+import com.mybetapp.events.MatchChangedEvent;
+import com.mybetapp.util.MatchFilterKey;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MatchCountCacheTest {
+
+	private static final LocalDate DATE = LocalDate.of(2025, 8, 22);
+
+	private MatchCountCache matchCountCache;
+
+	private final AtomicInteger counts = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		matchCountCache = new MatchCountCache(true, 100, Duration.ofMinutes(5));
+	}
+
+	@Test
+	void getTotal_countsOncePerFilter() {
+		MatchFilterKey filter = new MatchFilterKey("alice", null, null);
+
+		assertThat(total(filter, 7)).isEqualTo(7);
+		assertThat(total(filter, 8)).isEqualTo(7);
+		assertThat(counts).hasValue(1);
+	}
+
+	@Test
+	void onMatchChanged_evictsOnlyFiltersCoveringTheMatch() {
+		MatchFilterKey all = new MatchFilterKey(null, null, null);
+		MatchFilterKey alicesFootball = new MatchFilterKey("alice", Sport.FOOTBALL, null);
+		MatchFilterKey bobs = new MatchFilterKey("bob", null, null);
+		MatchFilterKey otherDay = new MatchFilterKey(null, null, DATE.plusDays(1));
+
+		total(all, 1);
+		total(alicesFootball, 1);
+		total(bobs, 1);
+		total(otherDay, 1);
+
+		matchCountCache.onMatchChanged(new MatchChangedEvent(1L, List.of(new MatchFilterKey("alice", Sport.FOOTBALL,
+				DATE))));
+
+		assertThat(total(all, 2)).isEqualTo(2);
+		assertThat(total(alicesFootball, 2)).isEqualTo(2);
+		assertThat(total(bobs, 2)).isEqualTo(1);
+		assertThat(total(otherDay, 2)).isEqualTo(1);
+	}
+
+	@Test
+	void getTotal_doesNotCacheTotalCountedWhileMatchChanged() {
+		MatchFilterKey filter = new MatchFilterKey("alice", null, null);
+
+		// The change commits and is evicted while the count is still running
+		long stale = matchCountCache.getTotal(filter, () -> {
+			counts.incrementAndGet();
+			matchCountCache.onMatchChanged(new MatchChangedEvent(1L, List.of(new MatchFilterKey("alice",
+					Sport.FOOTBALL, DATE))));
+			return 3;
+		});
+
+		assertThat(stale).isEqualTo(3);
+		assertThat(total(filter, 4)).isEqualTo(4);
+		assertThat(total(filter, 5)).isEqualTo(4);
+		assertThat(counts).hasValue(2);
+	}
+
+	private long total(MatchFilterKey filter, long count) {
+		return matchCountCache.getTotal(filter, () -> {
+			counts.incrementAndGet();
+			return count;
+		});
+	}
+}
@@ -0,0 +1,91 @@
+package com.mybetapp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.events.MatchChangedEvent;
+import com.mybetapp.util.MatchFilterKey;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+class MatchPageCacheTest {
+
+	private static final LocalDate DATE = LocalDate.of(2025, 8, 22);
+
+	private MatchPageCache matchPageCache;
+
+	@BeforeEach
+	void setUp() {
+		matchPageCache = new MatchPageCache(true, 100, Duration.ofMinutes(1));
+	}
+
+	@Test
+	void getIfPresent_recordsHitsAndMisses() {
+		MatchPageKey key = pageKey(new MatchFilterKey(null, null, null));
+
+		assertThat(matchPageCache.getIfPresent(key)).isNull();
+		matchPageCache.put(key, page(1L), matchPageCache.generation());
+		assertThat(matchPageCache.getIfPresent(key)).isNotNull();
+
+		assertThat(matchPageCache.stats().hitCount()).isEqualTo(1);
+		assertThat(matchPageCache.stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	void onMatchChanged_evictsOnlyPagesThatCouldContainTheMatch() {
+		MatchPageKey allMatches = pageKey(new MatchFilterKey(null, null, null));
+		MatchPageKey alicesDay = pageKey(new MatchFilterKey("alice", null, DATE));
+		MatchPageKey bobsMatches = pageKey(new MatchFilterKey("bob", null, null));
+		MatchPageKey basketball = pageKey(new MatchFilterKey(null, Sport.BASKETBALL, null));
+
+		for (MatchPageKey key : List.of(allMatches, alicesDay, bobsMatches, basketball)) {
+			matchPageCache.put(key, page(99L), matchPageCache.generation());
+		}
+
+		matchPageCache.onMatchChanged(
+				new MatchChangedEvent(1L, List.of(new MatchFilterKey("alice", Sport.FOOTBALL, DATE))));
+
+		assertThat(matchPageCache.getIfPresent(allMatches)).isNull();
+		assertThat(matchPageCache.getIfPresent(alicesDay)).isNull();
+		assertThat(matchPageCache.getIfPresent(bobsMatches)).isNotNull();
+		assertThat(matchPageCache.getIfPresent(basketball)).isNotNull();
+	}
+
+	@Test
+	void onMatchChanged_evictsPagesShowingTheMatch() {
+		MatchPageKey bobsMatches = pageKey(new MatchFilterKey("bob", null, null));
+		matchPageCache.put(bobsMatches, page(7L), matchPageCache.generation());
+
+		// Odds-only change: filter membership is unchanged but the shown row is stale
+		matchPageCache.onMatchChanged(new MatchChangedEvent(7L, List.of()));
+
+		assertThat(matchPageCache.getIfPresent(bobsMatches)).isNull();
+	}
+
+	@Test
+	void put_ignoresPagesLoadedBeforeAnInvalidation() {
+		MatchPageKey key = pageKey(new MatchFilterKey(null, null, null));
+		long generation = matchPageCache.generation();
+
+		matchPageCache.onMatchChanged(new MatchChangedEvent(1L, List.of()));
+		matchPageCache.put(key, page(1L), generation);
+
+		assertThat(matchPageCache.getIfPresent(key)).isNull();
+	}
+
+	private MatchPageKey pageKey(MatchFilterKey filter) {
+		return new MatchPageKey(0, 10, "matchDate", "desc", filter);
+	}
+
+	private Page<MatchDTO> page(Long matchId) {
+		return new PageImpl<>(List.of(new MatchDTO(matchId, "carol", null, DATE, LocalTime.NOON, "AEK", "PAO",
+				Sport.FOOTBALL, 0L)));
+	}
+}
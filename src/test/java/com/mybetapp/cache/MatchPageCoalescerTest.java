@@ -0,0 +1,119 @@
+package com.mybetapp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.util.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+class MatchPageCoalescerTest {
+
+	private static final MatchPageCoalescer.Request REQUEST = new MatchPageCoalescer.Request(0, 10, "matchDate",
+			"desc", null, null, LocalDate.of(2025, 8, 22), null, null, null);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MatchPageCoalescer coalescer = new MatchPageCoalescer(true, meterRegistry);
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void load_sharesResultOfLoadInFlight() throws Exception {
+		Result<Page<MatchDTO>> page = Result.ok(new PageImpl<>(List.of()));
+
+		Future<Result<Page<MatchDTO>>> leader = executor.submit(() -> coalescer.load(REQUEST, blockingLoad(page)));
+		Future<Result<Page<MatchDTO>>> follower = executor.submit(() -> coalescer.load(REQUEST, blockingLoad(page)));
+		awaitCoalesced(1);
+		release.countDown();
+
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(page);
+		assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(page);
+		assertThat(loads).hasValue(1);
+		assertThat(meterRegistry.get("mybetapp.matches.coalesced").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void load_loadsAgainOnceLoadHasFinished() {
+		Result<Page<MatchDTO>> page = Result.ok(new PageImpl<>(List.of()));
+		release.countDown();
+
+		coalescer.load(REQUEST, blockingLoad(page));
+		coalescer.load(REQUEST, blockingLoad(page));
+
+		assertThat(loads).hasValue(2);
+		assertThat(coalescer.coalescedCount()).isZero();
+	}
+
+	@Test
+	void load_doesNotShareBetweenDifferentRequests() throws Exception {
+		Result<Page<MatchDTO>> page = Result.ok(new PageImpl<>(List.of()));
+		MatchPageCoalescer.Request nextPage = new MatchPageCoalescer.Request(1, 10, "matchDate", "desc", null, null,
+				LocalDate.of(2025, 8, 22), null, null, null);
+
+		Future<?> first = executor.submit(() -> coalescer.load(REQUEST, blockingLoad(page)));
+		Future<?> second = executor.submit(() -> coalescer.load(nextPage, blockingLoad(page)));
+		while (loads.get() < 2) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		second.get(5, TimeUnit.SECONDS);
+
+		assertThat(coalescer.coalescedCount()).isZero();
+	}
+
+	@Test
+	void load_rethrowsFailureOfLoadInFlight() throws Exception {
+		Supplier<Result<Page<MatchDTO>>> failingLoad = () -> {
+			blockingLoad(null).get();
+			throw new IllegalStateException("Connection refused");
+		};
+
+		Future<?> leader = executor.submit(() -> coalescer.load(REQUEST, failingLoad));
+		Future<?> follower = executor.submit(() -> coalescer.load(REQUEST, failingLoad));
+		awaitCoalesced(1);
+		release.countDown();
+
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(loads).hasValue(1);
+	}
+
+	private Supplier<Result<Page<MatchDTO>>> blockingLoad(Result<Page<MatchDTO>> result) {
+		return () -> {
+			loads.incrementAndGet();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return result;
+		};
+	}
+
+	private void awaitCoalesced(long count) {
+		while (coalescer.coalescedCount() < count) {
+			Thread.onSpinWait();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.mybetapp.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.events.MatchChangedEvent;
+import com.mybetapp.util.MatchFilterKey;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MatchScheduleCacheTest {
+
+	private static final LocalDate DATE = LocalDate.of(2025, 8, 22);
+
+	private MatchScheduleCache matchScheduleCache;
+
+	@BeforeEach
+	void setUp() {
+		matchScheduleCache = new MatchScheduleCache(new ObjectMapper().findAndRegisterModules(), 100,
+				Duration.ofMinutes(1));
+	}
+
+	@Test
+	void put_serializesOnceWithGzipAndEtag() throws IOException {
+		MatchScheduleKey key = new MatchScheduleKey(DATE, null, "matchDate", "asc");
+
+		MatchSchedule schedule = matchScheduleCache.put(key, List.of(match(1L)), matchScheduleCache.generation());
+
+		assertThat(new String(schedule.json())).contains("\"matchId\":1").contains("\"teamA\":\"AEK\"");
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(schedule.gzippedJson()))) {
+			assertThat(gzip.readAllBytes()).isEqualTo(schedule.json());
+		}
+		assertThat(schedule.etag()).startsWith("\"").endsWith("\"");
+		assertThat(matchScheduleCache.getIfPresent(key)).isSameAs(schedule);
+	}
+
+	@Test
+	void onMatchChanged_evictsOnlySchedulesOfTheChangedDay() {
+		MatchScheduleKey sameDay = new MatchScheduleKey(DATE, null, "matchDate", "asc");
+		MatchScheduleKey sameDayOtherSport = new MatchScheduleKey(DATE, Sport.BASKETBALL, "matchDate", "asc");
+		MatchScheduleKey nextDay = new MatchScheduleKey(DATE.plusDays(1), null, "matchDate", "asc");
+
+		for (MatchScheduleKey key : List.of(sameDay, sameDayOtherSport, nextDay)) {
+			matchScheduleCache.put(key, List.of(), matchScheduleCache.generation());
+		}
+
+		matchScheduleCache.onMatchChanged(
+				new MatchChangedEvent(1L, List.of(new MatchFilterKey("alice", Sport.FOOTBALL, DATE))));
+
+		assertThat(matchScheduleCache.getIfPresent(sameDay)).isNull();
+		assertThat(matchScheduleCache.getIfPresent(sameDayOtherSport)).isNotNull();
+		assertThat(matchScheduleCache.getIfPresent(nextDay)).isNotNull();
+	}
+
+	@Test
+	void onMatchChanged_evictsSchedulesShowingTheMatch() {
+		MatchScheduleKey key = new MatchScheduleKey(DATE, null, "matchDate", "asc");
+		matchScheduleCache.put(key, List.of(match(5L)), matchScheduleCache.generation());
+
+		matchScheduleCache.onMatchChanged(new MatchChangedEvent(5L, List.of()));
+
+		assertThat(matchScheduleCache.getIfPresent(key)).isNull();
+	}
+
+	private MatchDTO match(Long matchId) {
+		return new MatchDTO(matchId, "alice", null, DATE, LocalTime.NOON, "AEK", "PAO", Sport.FOOTBALL, 0L);
+	}
+}
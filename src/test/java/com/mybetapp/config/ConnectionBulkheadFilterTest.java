@@ -0,0 +1,142 @@
+package com.mybetapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConnectionBulkheadFilterTest {
+
+	@Test
+	void requestBeyondPermitsGets503AfterMaxWait() throws Exception {
+		ConnectionBulkheadFilter filter = new ConnectionBulkheadFilter(true, 2, 1, Duration.ofMillis(50));
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Thread holder = Thread.ofVirtual().start(() -> {
+			try {
+				filter.doFilter(request("/bet/matches"), new MockHttpServletResponse(), (req, res) -> {
+					entered.countDown();
+					awaitQuietly(release);
+				});
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+		MockHttpServletResponse rejected = new MockHttpServletResponse();
+		filter.doFilter(request("/bet/matches"), rejected, new MockFilterChain());
+
+		assertThat(rejected.getStatus()).isEqualTo(503);
+		assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+
+		release.countDown();
+		holder.join();
+		assertThat(filter.availablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	void queuedRequestRunsOncePermitIsReleased() throws Exception {
+		ConnectionBulkheadFilter filter = new ConnectionBulkheadFilter(true, 2, 1, Duration.ofSeconds(5));
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Thread holder = Thread.ofVirtual().start(() -> {
+			try {
+				filter.doFilter(request("/bet/matches"), new MockHttpServletResponse(), (req, res) -> {
+					entered.countDown();
+					awaitQuietly(release);
+				});
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+		Thread.ofVirtual().start(() -> {
+			sleepQuietly(50);
+			release.countDown();
+		});
+
+		MockHttpServletResponse queued = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request("/bet/matches"), queued, chain);
+
+		assertThat(queued.getStatus()).isEqualTo(200);
+		assertThat(chain.getRequest()).isNotNull();
+		holder.join();
+	}
+
+	@Test
+	void exportInFlightDoesNotBlockListing() throws Exception {
+		ConnectionBulkheadFilter filter = new ConnectionBulkheadFilter(true, 2, 1, Duration.ofMillis(50));
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Thread exporter = Thread.ofVirtual().start(() -> {
+			try {
+				filter.doFilter(request("/bet/matches/export"), new MockHttpServletResponse(), (req, res) -> {
+					entered.countDown();
+					awaitQuietly(release);
+				});
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+		MockHttpServletResponse listing = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request("/bet/matches"), listing, chain);
+
+		MockHttpServletResponse secondExport = new MockHttpServletResponse();
+		filter.doFilter(request("/bet/matches/export"), secondExport, new MockFilterChain());
+
+		assertThat(listing.getStatus()).isEqualTo(200);
+		assertThat(chain.getRequest()).isNotNull();
+		// Streams only compete with each other
+		assertThat(secondExport.getStatus()).isEqualTo(503);
+
+		release.countDown();
+		exporter.join();
+		assertThat(filter.availablePermits()).isEqualTo(1);
+		assertThat(filter.availableStreamPermits()).isEqualTo(1);
+	}
+
+	@Test
+	void disabledOrNonApiRequestsBypassTheBulkhead() throws Exception {
+		ConnectionBulkheadFilter disabled = new ConnectionBulkheadFilter(false, 2, 1, Duration.ZERO);
+		ConnectionBulkheadFilter enabled = new ConnectionBulkheadFilter(true, 2, 1, Duration.ZERO);
+
+		assertThat(disabled.shouldNotFilter(request("/bet/matches"))).isTrue();
+		assertThat(enabled.shouldNotFilter(request("/swagger-ui/index.html"))).isTrue();
+		assertThat(enabled.shouldNotFilter(request("/bet/matches"))).isFalse();
+	}
+
+	private static MockHttpServletRequest request(String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		request.setServletPath(path);
+		return request;
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
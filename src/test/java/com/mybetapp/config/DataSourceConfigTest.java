@@ -0,0 +1,33 @@
+package com.mybetapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+class DataSourceConfigTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+			.withUserConfiguration(DataSourceConfig.class)
+			.withPropertyValues("spring.datasource.url=jdbc:h2:mem:datasource-config",
+					"spring.datasource.hikari.maximum-pool-size=3");
+
+	@Test
+	void primaryDataSource_isLazyProxyAroundTheOnlyPool() {
+		contextRunner.run(context -> {
+			assertThat(context).hasSingleBean(HikariDataSource.class);
+			HikariDataSource pool = context.getBean(HikariDataSource.class);
+
+			DataSource dataSource = context.getBean(DataSource.class);
+			assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+			assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource()).isSameAs(pool);
+			assertThat(pool.getMaximumPoolSize()).isEqualTo(3);
+		});
+	}
+}
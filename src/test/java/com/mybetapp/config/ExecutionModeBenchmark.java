@@ -0,0 +1,180 @@
+package com.mybetapp.config;
+
+import com.mybetapp.MySpringbootAppApplication;
+import com.mybetapp.dataset.SyntheticDatasetSpec;
+import com.mybetapp.dataset.SyntheticMatchGenerator;
+import com.mybetapp.dataset.SyntheticMatchGenerator.SyntheticMatch;
+import com.mybetapp.entities.Match;
+import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.repositories.MatchRepository;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares throughput and latency of platform-thread and virtual-thread
+ * execution under the same closed-loop load against {@code GET /bet/matches}
+ * with the page cache off, so every request takes a pooled connection. Each
+ * mode runs in a fresh application on an in-memory H2 database with the
+ * production pool size.
+ *
+ * <p>
+ * Opt-in, as it takes about a minute and prints results instead of asserting:
+ *
+ * <pre>
+ * mvn test -Dtest=ExecutionModeBenchmark -Dbenchmark=true [-Dbenchmark.clients=400 -Dbenchmark.seconds=20]
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExecutionModeBenchmark {
+
+	private static final int CLIENTS = Integer.getInteger("benchmark.clients", 400);
+	private static final Duration WARM_UP = Duration.ofSeconds(Integer.getInteger("benchmark.warm-up-seconds", 5));
+	private static final Duration MEASURE = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 20));
+	private static final int MATCHES = 20_000;
+
+	@Test
+	void compareExecutionModes() throws Exception {
+		List<String> rows = new ArrayList<>();
+		rows.add(run("platform threads", false));
+		rows.add(run("virtual threads + bulkhead", true));
+
+		System.out.printf("%n%d clients, %ds measured%n", CLIENTS, MEASURE.toSeconds());
+		System.out.printf("%-28s %10s %8s %8s %8s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+		rows.forEach(System.out::println);
+	}
+
+	private String run(String mode, boolean virtualThreads) throws Exception {
+		// Passed as arguments so they win over application.properties
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MySpringbootAppApplication.class)
+				.run("--server.port=0", "--spring.main.banner-mode=off", "--logging.level.root=WARN",
+						"--spring.threads.virtual.enabled=" + virtualThreads,
+						"--spring.datasource.url=jdbc:h2:mem:benchmark-" + virtualThreads,
+						"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+						"--mybetapp.matches.page-cache.enabled=false", "--mybetapp.reactive.enabled=false")) {
+			seed(context.getBean(MatchRepository.class));
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+			load(port, WARM_UP);
+			LoadResult result = load(port, MEASURE);
+
+			long[] latencies = result.latencies();
+			Arrays.sort(latencies);
+			return String.format("%-28s %10.0f %8.1f %8.1f %8.1f %8d", mode,
+					latencies.length / (double) MEASURE.toSeconds(), percentile(latencies, 0.50),
+					percentile(latencies, 0.99), latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6,
+					result.errors());
+		}
+	}
+
+	private void seed(MatchRepository matchRepository) {
+		SyntheticMatchGenerator generator = new SyntheticMatchGenerator(
+				new SyntheticDatasetSpec(MATCHES, 50, 40, LocalDate.of(2030, 1, 1), 100, 0.4, 1.05, 12.0, 42));
+
+		List<Match> matches = LongStream.range(0, MATCHES).mapToObj(generator::match).map(this::toMatch).toList();
+		matchRepository.saveAll(matches);
+	}
+
+	private Match toMatch(SyntheticMatch synthetic) {
+		Match match = new Match();
+		match.setOwner(synthetic.owner());
+		match.setDescription(synthetic.description());
+		match.setMatchDate(synthetic.matchDate());
+		match.setMatchTime(synthetic.matchTime());
+		match.setTeamA(synthetic.teamA());
+		match.setTeamB(synthetic.teamB());
+		match.setSport(synthetic.sport());
+		double[] odds = {synthetic.win(), synthetic.draw(), synthetic.lose()};
+		for (Specifier specifier : Specifier.values()) {
+			MatchOdds odd = new MatchOdds();
+			odd.setSpecifier(specifier);
+			odd.setOdd(odds[specifier.ordinal()]);
+			odd.setMatch(match);
+			match.getOdds().add(odd);
+		}
+		return match;
+	}
+
+	/**
+	 * Runs {@link #CLIENTS} clients that each send their next request as soon as
+	 * the previous one completes.
+	 */
+	private LoadResult load(int port, Duration duration) throws Exception {
+		HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor())
+				.connectTimeout(Duration.ofSeconds(10)).build();
+		long deadline = System.nanoTime() + duration.toNanos();
+
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<LoadResult>> futures = new ArrayList<>();
+			for (int i = 0; i < CLIENTS; i++) {
+				futures.add(clients.submit(() -> {
+					long[] latencies = new long[1024];
+					int count = 0;
+					long errors = 0;
+					while (System.nanoTime() < deadline) {
+						String uri = "http://localhost:" + port + "/bet/matches?size=20&page="
+								+ ThreadLocalRandom.current().nextInt(50) + "&owner=owner"
+								+ ThreadLocalRandom.current().nextInt(50);
+						long start = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(uri)).build(),
+									HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() != 200) {
+								errors++;
+								continue;
+							}
+						} catch (Exception e) {
+							errors++;
+							continue;
+						}
+						if (count == latencies.length) {
+							latencies = Arrays.copyOf(latencies, count * 2);
+						}
+						latencies[count++] = System.nanoTime() - start;
+					}
+					return new LoadResult(Arrays.copyOf(latencies, count), errors);
+				}));
+			}
+
+			LoadResult total = new LoadResult(new long[0], 0);
+			for (Future<LoadResult> future : futures) {
+				total = total.plus(future.get());
+			}
+			return total;
+		}
+	}
+
+	private static double percentile(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1e6;
+	}
+
+	private record LoadResult(long[] latencies, long errors) {
+
+		LoadResult plus(LoadResult other) {
+			long[] merged = Arrays.copyOf(latencies, latencies.length + other.latencies.length);
+			System.arraycopy(other.latencies, 0, merged, latencies.length, other.latencies.length);
+			return new LoadResult(merged, errors + other.errors);
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.mybetapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.mybetapp.entities.Match;
+import com.mybetapp.repositories.MatchRepository;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Serves real HTTP requests with {@code spring.threads.virtual.enabled=true}
+ * and checks the JWT user still reaches the service through
+ * SecurityContextHolder.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"spring.threads.virtual.enabled=true", "spring.datasource.url=jdbc:h2:mem:virtual-threads",
+				"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"mybetapp.reactive.enabled=false"})
+class VirtualThreadExecutionTest {
+
+	private static final String MATCH_JSON = """
+			{"matchDate":"2031-05-01","matchTime":"20:45","teamA":"OSFP","teamB":"PAO","sport":"FOOTBALL",
+			"odds":[{"specifier":"WIN","odd":1.9},{"specifier":"DRAW","odd":3.1},{"specifier":"LOSE","odd":4.2}]}
+			""";
+
+	@LocalServerPort
+	private int port;
+
+	@MockitoBean
+	private JwtDecoder jwtDecoder;
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private ConnectionBulkheadFilter bulkheadFilter;
+
+	@Test
+	void authenticatedRequestOnVirtualThreadSeesCurrentUser() throws Exception {
+		AtomicBoolean decodedOnVirtualThread = new AtomicBoolean();
+		when(jwtDecoder.decode(anyString())).thenAnswer(invocation -> {
+			decodedOnVirtualThread.set(Thread.currentThread().isVirtual());
+			return Jwt.withTokenValue(invocation.getArgument(0)).header("alg", "none")
+					.claim("preferred_username", "virtual-user").issuedAt(Instant.now())
+					.expiresAt(Instant.now().plusSeconds(60)).build();
+		});
+		int permitsBefore = bulkheadFilter.availablePermits();
+
+		HttpResponse<String> response = HttpClient.newHttpClient().send(
+				HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/bet/saveMatch"))
+						.header("Authorization", "Bearer token").header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(MATCH_JSON)).build(),
+				HttpResponse.BodyHandlers.ofString());
+
+		assertThat(response.statusCode()).as(response.body()).isEqualTo(201);
+		assertThat(decodedOnVirtualThread).isTrue();
+		List<Match> matches = matchRepository.findAll();
+		assertThat(matches).extracting(Match::getOwner).containsExactly("virtual-user");
+		// The bulkhead is on with virtual threads and gives its permit back
+		assertThat(bulkheadFilter.availablePermits()).isEqualTo(permitsBefore);
+	}
+}
@@ -3,23 +3,72 @@ package com.mybetapp.controllers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybetapp.cache.MatchPageCache;
+import com.mybetapp.cache.MatchPageCoalescer;
+import com.mybetapp.cache.MatchSchedule;
+import com.mybetapp.cache.MatchScheduleCache;
+import com.mybetapp.cache.MatchScheduleKey;
+import com.mybetapp.dto.MatchBatchItemDTO;
 import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchImportProgressDTO;
+import com.mybetapp.dto.MatchImportRejectionDTO;
+import com.mybetapp.dto.MatchOddsDTO;
+import com.mybetapp.dto.MatchScrollDTO;
+import com.mybetapp.enums.BatchItemStatus;
+import com.mybetapp.enums.MatchFileFormat;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.metrics.MatchErrorMetrics;
+import com.mybetapp.models.MatchOdds;
 import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.models.UpdateOddsRequest;
+import com.mybetapp.services.MatchImportListener;
+import com.mybetapp.services.MatchImportService;
 import com.mybetapp.services.MatchService;
 import com.mybetapp.util.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.*;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 class MatchControllerTest {
 
 	@Mock
 	private MatchService matchService;
 
+	@Mock
+	private MatchPageCache matchPageCache;
+
+	@Mock
+	private MatchScheduleCache matchScheduleCache;
+
+	@Mock
+	private MatchImportService matchImportService;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	@Spy
+	private MatchErrorMetrics errorMetrics = new MatchErrorMetrics(new SimpleMeterRegistry());
+
+	@Spy
+	private MatchPageCoalescer matchPageCoalescer = new MatchPageCoalescer(true, new SimpleMeterRegistry());
+
 	@InjectMocks
 	private MatchController betController; // Replace with actual controller class name
 
@@ -42,17 +91,21 @@ class MatchControllerTest {
 
 		when(matchService.getPaginatedMatches(page, size, sortBy, direction, null, // owner
 				null, // sport
-				null // matchDate
+				null, // matchDate
+				null, // from
+				null, // to
+				null // upcomingHours
 		)).thenReturn(successResult);
 
 		// Act
-		ResponseEntity<?> response = betController.getPaginatedMatches(page, size, sortBy, direction, null, null, null);
+		ResponseEntity<?> response = betController.getPaginatedMatches(page, size, sortBy, direction, null, null, null,
+				null, null, null);
 
 		// Assert
 		assertThat(response.getStatusCodeValue()).isEqualTo(200);
 		assertThat(response.getBody()).isEqualTo(mockPage);
 
-		verify(matchService).getPaginatedMatches(page, size, sortBy, direction, null, null, null);
+		verify(matchService).getPaginatedMatches(page, size, sortBy, direction, null, null, null, null, null, null);
 	}
 
 	@Test
@@ -66,12 +119,12 @@ class MatchControllerTest {
 		String errorMessage = "Database error";
 		Result<Page<MatchDTO>> failureResult = Result.error(errorMessage);
 
-		when(matchService.getPaginatedMatches(page, size, sortBy, direction, null, null, null))
+		when(matchService.getPaginatedMatches(page, size, sortBy, direction, null, null, null, null, null, null))
 				.thenReturn(failureResult);
 
 		// Act
 		ResponseEntity<?> response = betController.getPaginatedMatches(page, size, sortBy, direction, null, null,
-				null);;
+				null, null, null, null);;
 
 		// Assert
 		assertThat(response.getStatusCodeValue()).isEqualTo(500);
@@ -79,7 +132,95 @@ class MatchControllerTest {
 		Map<String, String> errorBody = (Map<String, String>) response.getBody();
 		assertThat(errorBody).containsEntry("error", errorMessage);
 
-		verify(matchService).getPaginatedMatches(page, size, sortBy, direction, null, null, null);
+		verify(matchService).getPaginatedMatches(page, size, sortBy, direction, null, null, null, null, null, null);
+	}
+
+	@Test
+	void getAllMatchesPaginated_invalidRange() {
+		when(matchService.getPaginatedMatches(0, 10, "matchDate", "desc", null, null, null, null, null, 0))
+				.thenReturn(Result.error("Invalid range: upcomingHours must be between 1 and 168"));
+
+		ResponseEntity<?> response = betController.getPaginatedMatches(0, 10, "matchDate", "desc", null, null, null,
+				null, null, 0);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+	}
+
+	@Test
+	void scrollMatches_success() {
+		MatchScrollDTO scroll = new MatchScrollDTO();
+		scroll.setHasNext(true);
+		scroll.setNextCursor("abc");
+
+		when(matchService.scrollMatches(10, "matchDate", "desc", null, null, null, null))
+				.thenReturn(Result.ok(scroll));
+
+		ResponseEntity<?> response = betController.scrollMatches(10, "matchDate", "desc", null, null, null, null);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(scroll);
+	}
+
+	@Test
+	void scrollMatches_invalidCursor() {
+		when(matchService.scrollMatches(10, "matchDate", "desc", null, null, null, "bogus"))
+				.thenReturn(Result.error("Invalid cursor: bogus"));
+
+		ResponseEntity<?> response = betController.scrollMatches(10, "matchDate", "desc", null, null, null, "bogus");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+	}
+
+	@Test
+	void getMatchSchedule_cacheMiss_loadsAndServesGzip() {
+		LocalDate date = LocalDate.of(2025, 8, 22);
+		MatchScheduleKey key = new MatchScheduleKey(date, null, "matchDate", "asc");
+		MatchSchedule schedule = new MatchSchedule(new byte[]{1}, new byte[]{2}, "\"abc\"", Set.of());
+
+		when(matchService.getMatchSchedule(date, null, "matchDate", "asc")).thenReturn(Result.ok(List.of()));
+		when(matchScheduleCache.put(eq(key), eq(List.of()), anyLong())).thenReturn(schedule);
+
+		ResponseEntity<?> response = betController.getMatchSchedule(date, null, "matchDate", "asc", null,
+				"gzip, deflate");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(response.getHeaders().getETag()).isEqualTo("\"abc-gz\"");
+		assertThat(response.getBody()).isSameAs(schedule.gzippedJson());
+	}
+
+	@Test
+	void getMatchSchedule_identityEncoding_servesPlainJsonWithItsOwnEtag() {
+		LocalDate date = LocalDate.of(2025, 8, 22);
+		MatchSchedule schedule = new MatchSchedule(new byte[]{1}, new byte[]{2}, "\"abc\"", Set.of());
+
+		when(matchScheduleCache.getIfPresent(new MatchScheduleKey(date, null, "matchDate", "asc")))
+				.thenReturn(schedule);
+
+		// The tag of the gzip variant does not validate the plain bytes
+		ResponseEntity<?> response = betController.getMatchSchedule(date, null, "matchDate", "ASC", "\"abc-gz\"",
+				null);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getETag()).isEqualTo("\"abc\"");
+		assertThat(response.getBody()).isSameAs(schedule.json());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"\"abc\"", "W/\"abc\"", "\"other\", \"abc\"", "*"})
+	void getMatchSchedule_matchingEtag_returnsNotModified(String ifNoneMatch) {
+		LocalDate date = LocalDate.of(2025, 8, 22);
+		MatchSchedule schedule = new MatchSchedule(new byte[]{1}, new byte[]{2}, "\"abc\"", Set.of());
+
+		when(matchScheduleCache.getIfPresent(new MatchScheduleKey(date, null, "matchDate", "asc")))
+				.thenReturn(schedule);
+
+		ResponseEntity<?> response = betController.getMatchSchedule(date, null, "matchDate", "asc", ifNoneMatch,
+				null);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getHeaders().getETag()).isEqualTo("\"abc\"");
+		verifyNoInteractions(matchService);
 	}
 
 	@Test
@@ -117,6 +258,7 @@ class MatchControllerTest {
 		assertThat(body).containsEntry("error", errorMsg);
 
 		verify(matchService).saveMatch(request);
+		verify(errorMetrics).increment("saveMatch", HttpStatus.CONFLICT);
 	}
 
 	@Test
@@ -276,6 +418,162 @@ class MatchControllerTest {
 		verify(matchService).updateMatch(matchId, updateRequest);
 	}
 
+	@Test
+	void saveMatches_success() {
+		List<SaveMatchRequest> requests = List.of(new SaveMatchRequest());
+		List<MatchBatchItemDTO> items = List.of(new MatchBatchItemDTO());
+
+		when(matchService.saveMatches(requests)).thenReturn(Result.ok(items));
+
+		ResponseEntity<?> response = betController.saveMatches(requests);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(items);
+	}
+
+	@Test
+	void saveMatches_oversizedBatch() {
+		List<SaveMatchRequest> requests = List.of(new SaveMatchRequest());
+
+		when(matchService.saveMatches(requests))
+				.thenReturn(Result.error("Invalid batch size: at most 500 matches per request"));
+
+		ResponseEntity<?> response = betController.saveMatches(requests);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+	}
+
+	@Test
+	void saveMatches_concurrentDuplicate() {
+		List<SaveMatchRequest> requests = List.of(new SaveMatchRequest());
+
+		when(matchService.saveMatches(requests)).thenReturn(
+				Result.error("A match of the batch already exists, it was saved concurrently; nothing was saved"));
+
+		ResponseEntity<?> response = betController.saveMatches(requests);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+	}
+
+	@Test
+	void importMatches_streamsRejectedProgressAndDone() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent("ignored".getBytes());
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		MatchImportProgressDTO progress = new MatchImportProgressDTO();
+		progress.setRecords(2);
+		progress.setCreated(1);
+		progress.setRejected(1);
+
+		when(matchImportService.importMatches(any(), eq(MatchFileFormat.CSV), any())).thenAnswer(invocation -> {
+			MatchImportListener listener = invocation.getArgument(2);
+			listener.onRejected(new MatchImportRejectionDTO(3, BatchItemStatus.INVALID, List.of("bad")));
+			listener.onProgress(progress);
+			return Result.ok(progress);
+		});
+
+		betController.importMatches("text/csv", request, response);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentType()).isEqualTo("application/x-ndjson");
+		assertThat(response.getContentAsString().lines()).hasSize(3).satisfiesExactly(
+				line -> assertThat(line).startsWith("{\"rejected\":{\"line\":3"),
+				line -> assertThat(line).startsWith("{\"progress\":"),
+				line -> assertThat(line).startsWith("{\"done\":"));
+	}
+
+	@Test
+	void importMatchFile_notFoundBeforeAnyOutput() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		when(matchImportService.importFile(eq("missing.csv"), any()))
+				.thenReturn(Result.error("NOT_FOUND: Import file missing.csv does not exist"));
+
+		betController.importMatchFile("missing.csv", response);
+
+		assertThat(response.getStatus()).isEqualTo(404);
+		assertThat(response.getContentAsString()).contains("\"error\"");
+		verify(errorMetrics).increment("importMatchFile", HttpStatus.NOT_FOUND);
+	}
+
+	@Test
+	void exportMatches_csvWritesHeaderAndEscapedRows() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		MatchDTO match = new MatchDTO(7L, "alice", "Derby, final", LocalDate.of(2025, 8, 22), LocalTime.of(20, 45),
+				"AEK", "PAO", Sport.FOOTBALL, 2L);
+		MatchOdds win = new MatchOdds();
+		win.setSpecifier(Specifier.WIN);
+		win.setOdd(1.5);
+		match.setOdds(List.of(win));
+
+		when(matchService.exportMatches(eq("alice"), isNull(), isNull(), any())).thenAnswer(invocation -> {
+			Consumer<MatchDTO> consumer = invocation.getArgument(3);
+			consumer.accept(match);
+			return Result.ok(1L);
+		});
+
+		betController.exportMatches("csv", "alice", null, null, response);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentType()).startsWith("text/csv");
+		assertThat(response.getContentAsString().lines()).containsExactly(
+				"matchId,owner,description,matchDate,matchTime,teamA,teamB,sport,version,win,draw,lose",
+				"7,alice,\"Derby, final\",2025-08-22,20:45,AEK,PAO,FOOTBALL,2,1.5,,");
+	}
+
+	@Test
+	void exportMatches_unknownFormat() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		betController.exportMatches("xml", null, null, null, response);
+
+		assertThat(response.getStatus()).isEqualTo(400);
+		verifyNoInteractions(matchService);
+	}
+
+	@Test
+	void updateMatchOdds_success() {
+		Long matchId = 123L;
+		UpdateOddsRequest request = new UpdateOddsRequest();
+		MatchOddsDTO updated = new MatchOddsDTO();
+
+		when(matchService.updateMatchOdds(matchId, request)).thenReturn(Result.ok(updated));
+
+		ResponseEntity<?> response = betController.updateMatchOdds(matchId, request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(updated);
+	}
+
+	@Test
+	void updateMatchOdds_staleVersion() {
+		Long matchId = 123L;
+		UpdateOddsRequest request = new UpdateOddsRequest();
+		String errorMsg = "CONFLICT: Match with id 123 was modified concurrently, current version is 4";
+
+		when(matchService.updateMatchOdds(matchId, request)).thenReturn(Result.error(errorMsg));
+
+		ResponseEntity<?> response = betController.updateMatchOdds(matchId, request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+		assertThat((Map<String, String>) response.getBody()).containsEntry("error", errorMsg);
+	}
+
+	@Test
+	void updateMatchOdds_notFound() {
+		Long matchId = 123L;
+		UpdateOddsRequest request = new UpdateOddsRequest();
+
+		when(matchService.updateMatchOdds(matchId, request))
+				.thenReturn(Result.error("NOT_FOUND: Match with id 123 does not exist."));
+
+		ResponseEntity<?> response = betController.updateMatchOdds(matchId, request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+	}
+
 	@Test
 	void deleteMatch_success() {
 		Long matchId = 123L;
@@ -0,0 +1,173 @@
+package com.mybetapp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.repositories.ReactiveMatchReader;
+import com.mybetapp.util.MatchFilterKey;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ReactiveMatchHandlerTest {
+
+	@Mock
+	private ReactiveMatchReader matchReader;
+
+	@InjectMocks
+	private ReactiveMatchHandler matchHandler;
+
+	private WebTestClient webTestClient;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when(matchReader.countMatches(any())).thenReturn(Mono.just(0L));
+		webTestClient = WebTestClient.bindToRouterFunction(
+				RouterFunctions.route().GET("/bet/matches", matchHandler::getPaginatedMatches).build()).build();
+	}
+
+	@Test
+	void getPaginatedMatches_returnsServletPageEnvelope() {
+		when(matchReader.findMatchPage(any(), any())).thenReturn(Flux.just(match(1L), match(2L)));
+		when(matchReader.countMatches(any())).thenReturn(Mono.just(12L));
+
+		webTestClient.get().uri("/bet/matches?page=2&size=5").exchange().expectStatus().isOk().expectHeader()
+				.contentTypeCompatibleWith(MediaType.APPLICATION_JSON).expectBody().jsonPath("$.content[0].matchId")
+				.isEqualTo(1).jsonPath("$.content[1].matchId").isEqualTo(2).jsonPath("$.totalElements").isEqualTo(12)
+				.jsonPath("$.totalPages").isEqualTo(3).jsonPath("$.number").isEqualTo(2).jsonPath("$.size")
+				.isEqualTo(5);
+
+		verify(matchReader).countMatches(new MatchFilterKey(null, null, null));
+	}
+
+	@Test
+	void getPaginatedMatches_countFailure_returnsServerError() {
+		when(matchReader.findMatchPage(any(), any())).thenReturn(Flux.just(match(1L)));
+		when(matchReader.countMatches(any())).thenReturn(Mono.error(new IllegalStateException("pool exhausted")));
+
+		webTestClient.get().uri("/bet/matches").exchange().expectStatus().is5xxServerError().expectBody()
+				.jsonPath("$.error").isEqualTo("Failed to fetch paginated matches: pool exhausted");
+	}
+
+	@Test
+	void getPaginatedMatches_streamsMatchesAsNdjsonWhenAccepted() {
+		when(matchReader.findMatchPage(any(), any())).thenReturn(Flux.just(match(1L), match(2L)));
+
+		List<MatchDTO> body = webTestClient.get()
+				.uri("/bet/matches?page=2&size=5&sortBy=owner&direction=asc&owner= Alice &sport=football"
+						+ "&matchDate=2031-05-01")
+				.accept(MediaType.APPLICATION_NDJSON).exchange().expectStatus().isOk().expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.returnResult(MatchDTO.class).getResponseBody().collectList().block();
+
+		assertThat(body).extracting(MatchDTO::getMatchId).containsExactly(1L, 2L);
+
+		ArgumentCaptor<MatchFilterKey> filter = ArgumentCaptor.forClass(MatchFilterKey.class);
+		ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+		verify(matchReader).findMatchPage(filter.capture(), pageable.capture());
+		assertThat(filter.getValue()).isEqualTo(new MatchFilterKey("alice", Sport.FOOTBALL, LocalDate.of(2031, 5, 1)));
+		assertThat(pageable.getValue().getPageNumber()).isEqualTo(2);
+		assertThat(pageable.getValue().getPageSize()).isEqualTo(5);
+		assertThat(pageable.getValue().getSort())
+				.isEqualTo(Sort.by(Sort.Order.asc("owner"), Sort.Order.asc("matchDate")));
+		verify(matchReader, never()).countMatches(any());
+	}
+
+	@Test
+	void getPaginatedMatches_defaultsMatchServletEndpoint() {
+		when(matchReader.findMatchPage(any(), any())).thenReturn(Flux.empty());
+
+		webTestClient.get().uri("/bet/matches").exchange().expectStatus().isOk();
+
+		ArgumentCaptor<MatchFilterKey> filter = ArgumentCaptor.forClass(MatchFilterKey.class);
+		ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+		verify(matchReader).findMatchPage(filter.capture(), pageable.capture());
+		assertThat(filter.getValue()).isEqualTo(new MatchFilterKey(null, null, null));
+		assertThat(pageable.getValue().getPageNumber()).isZero();
+		assertThat(pageable.getValue().getPageSize()).isEqualTo(10);
+		assertThat(pageable.getValue().getSort())
+				.isEqualTo(Sort.by(Sort.Order.desc("matchDate"), Sort.Order.desc("matchTime")));
+	}
+
+	@Test
+	void getPaginatedMatches_lowercasesOwnerIndependentOfDefaultLocale() {
+		when(matchReader.findMatchPage(any(), any())).thenReturn(Flux.empty());
+
+		// Turkish lowercases I to a dotless i, which would miss the stored owner
+		Locale defaultLocale = Locale.getDefault();
+		Locale.setDefault(Locale.forLanguageTag("tr"));
+		try {
+			webTestClient.get().uri("/bet/matches?owner=IRIS").exchange().expectStatus().isOk();
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+
+		ArgumentCaptor<MatchFilterKey> filter = ArgumentCaptor.forClass(MatchFilterKey.class);
+		verify(matchReader).findMatchPage(filter.capture(), any());
+		assertThat(filter.getValue().owner()).isEqualTo("iris");
+	}
+
+	@Test
+	void getPaginatedMatches_malformedParameter_returnsBadRequest() {
+		webTestClient.get().uri("/bet/matches?matchDate=01/05/2031").exchange().expectStatus().isBadRequest()
+				.expectBody().jsonPath("$.error").value(error -> assertThat((String) error).contains("01/05/2031"));
+
+		verify(matchReader, never()).findMatchPage(any(), any());
+	}
+
+	@Test
+	void getPaginatedMatches_passesKickOffRange() {
+		when(matchReader.findMatchPage(any(), any())).thenReturn(Flux.empty());
+
+		webTestClient.get().uri("/bet/matches?from=2031-05-01T18:00&to=2031-05-02T00:00").exchange().expectStatus()
+				.isOk();
+
+		ArgumentCaptor<MatchFilterKey> filter = ArgumentCaptor.forClass(MatchFilterKey.class);
+		verify(matchReader).findMatchPage(filter.capture(), any());
+		assertThat(filter.getValue()).isEqualTo(new MatchFilterKey(null, null, null)
+				.withRange(LocalDateTime.of(2031, 5, 1, 18, 0), LocalDateTime.of(2031, 5, 2, 0, 0)));
+	}
+
+	@Test
+	void getPaginatedMatches_upcomingHoursWithFrom_returnsBadRequest() {
+		webTestClient.get().uri("/bet/matches?from=2031-05-01T18:00&upcomingHours=6").exchange().expectStatus()
+				.isBadRequest().expectBody().jsonPath("$.error")
+				.isEqualTo("Invalid range: upcomingHours cannot be combined with from or to");
+
+		verify(matchReader, never()).findMatchPage(any(), any());
+	}
+
+	@Test
+	void getPaginatedMatches_invalidSport_returnsServerError() {
+		webTestClient.get().uri("/bet/matches?sport=tennis").exchange().expectStatus().is5xxServerError()
+				.expectBody().jsonPath("$.error")
+				.value(error -> assertThat((String) error).startsWith("Failed to fetch paginated matches"));
+
+		verify(matchReader, never()).findMatchPage(any(), any());
+	}
+
+	private MatchDTO match(Long id) {
+		return new MatchDTO(id, "alice", "desc", LocalDate.of(2031, 5, 1), LocalTime.of(20, 45), "OSFP", "PAO",
+				Sport.FOOTBALL, 0L);
+	}
+}
@@ -0,0 +1,77 @@
+package com.mybetapp.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mybetapp.entities.Match;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.repositories.MatchRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Loads a small synthetic dataset into a real PostgreSQL. Skipped where Docker
+ * is not available.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CopyMatchLoaderTest {
+
+	private static final int MATCHES = 5_000;
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Test
+	void loadsMatchesAndOddsAndLeavesSequencesUsable() throws Exception {
+		SyntheticMatchGenerator generator = new SyntheticMatchGenerator(
+				new SyntheticDatasetSpec(MATCHES, 25, 40, LocalDate.of(2024, 1, 1), 30, 0.4, 1.05, 12.0, 42));
+
+		long firstId = new CopyMatchLoader(dataSource, 1_000).load(generator);
+
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		assertThat(jdbc.queryForObject("select count(*) from matches", Long.class)).isEqualTo(MATCHES);
+		assertThat(jdbc.queryForObject("select count(*) from match_odds", Long.class)).isEqualTo(MATCHES * 3L);
+		assertThat(jdbc.queryForObject("select team_a from matches where id = ?", String.class, firstId + 17))
+				.isEqualTo(generator.match(17).teamA());
+
+		// Hibernate keeps allocating ids above the loaded range
+		Match match = new Match();
+		match.setOwner("owner0");
+		match.setMatchDate(LocalDate.of(2030, 1, 1));
+		match.setMatchTime(LocalTime.NOON);
+		match.setTeamA("NEW A");
+		match.setTeamB("NEW B");
+		match.setSport(Sport.FOOTBALL);
+		assertThat(matchRepository.saveAndFlush(match).getId()).isGreaterThanOrEqualTo(firstId + MATCHES);
+	}
+}
@@ -0,0 +1,73 @@
+package com.mybetapp.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mybetapp.dataset.SyntheticMatchGenerator.SyntheticMatch;
+import com.mybetapp.enums.Sport;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class SyntheticMatchGeneratorTest {
+
+	private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+
+	@Test
+	void sameSeedAndIndexGiveSameMatchInAnyOrder() {
+		SyntheticMatchGenerator first = new SyntheticMatchGenerator(spec(10_000, 20, 42));
+		SyntheticMatchGenerator second = new SyntheticMatchGenerator(spec(10_000, 20, 42));
+
+		List<SyntheticMatch> forward = LongStream.range(0, 100).mapToObj(first::match).toList();
+		List<SyntheticMatch> backward = LongStream.range(0, 100).map(i -> 99 - i).mapToObj(second::match).toList();
+
+		assertThat(forward).containsExactlyInAnyOrderElementsOf(backward);
+	}
+
+	@Test
+	void differentSeedsGiveDifferentData() {
+		SyntheticMatch withSeed42 = new SyntheticMatchGenerator(spec(10_000, 20, 42)).match(5);
+		SyntheticMatch withSeed7 = new SyntheticMatchGenerator(spec(10_000, 20, 7)).match(5);
+
+		assertThat(withSeed42).isNotEqualTo(withSeed7);
+	}
+
+	@Test
+	void naturalKeysAreUniqueAndValuesStayInRange() {
+		// 5000 matches a day on 10 teams uses 5000 of the 56 * 10 * 9 available slots
+		SyntheticMatchGenerator generator = new SyntheticMatchGenerator(spec(50_000, 10, 1));
+
+		Set<String> keys = new HashSet<>();
+		for (long i = 0; i < 50_000; i++) {
+			SyntheticMatch match = generator.match(i);
+			assertThat(match.teamA()).isNotEqualTo(match.teamB());
+			assertThat(match.matchDate()).isBetween(FIRST_DATE, FIRST_DATE.plusDays(9));
+			assertThat(match.win()).isBetween(1.2, 8.0);
+			assertThat(keys.add(match.teamA() + "|" + match.teamB() + "|" + match.matchDate() + "|"
+					+ match.matchTime() + "|" + match.sport())).isTrue();
+		}
+	}
+
+	@Test
+	void basketballShareIsRespected() {
+		SyntheticMatchGenerator generator = new SyntheticMatchGenerator(spec(10_000, 20, 3));
+
+		long basketball = LongStream.range(0, 10_000).mapToObj(generator::match)
+				.filter(match -> match.sport() == Sport.BASKETBALL).count();
+
+		assertThat(basketball).isBetween(3_700L, 4_300L);
+	}
+
+	@Test
+	void specRejectsMoreMatchesPerDayThanUniquePairings() {
+		assertThatThrownBy(() -> spec(56 * 2 * 10 + 10, 2, 1)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Too many matches per day");
+	}
+
+	private SyntheticDatasetSpec spec(long matches, int teams, long seed) {
+		return new SyntheticDatasetSpec(matches, 50, teams, FIRST_DATE, 10, 0.4, 1.2, 8.0, seed);
+	}
+}
@@ -0,0 +1,38 @@
+package com.mybetapp.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mybetapp.models.SaveMatchRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+class FlightRecorderConfigTest {
+
+	private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class, WebMvcAutoConfiguration.class))
+			.withUserConfiguration(FlightRecorderConfig.class);
+
+	@Test
+	void mvcValidator_isDecoratedAndStillValidates() {
+		contextRunner.run(context -> {
+			Validator mvcValidator = context.getBean("mvcValidator", Validator.class);
+			assertThat(mvcValidator).isInstanceOf(PhaseEventValidator.class);
+			// The application-wide validator is left as it is
+			assertThat(context.getBean(jakarta.validation.Validator.class))
+					.isInstanceOf(LocalValidatorFactoryBean.class);
+
+			SaveMatchRequest request = new SaveMatchRequest();
+			Errors errors = new BeanPropertyBindingResult(request, "request");
+			mvcValidator.validate(request, errors);
+
+			assertThat(errors.hasErrors()).isTrue();
+		});
+	}
+}
@@ -0,0 +1,102 @@
+package com.mybetapp.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Records with the shipped JFC profile while serving a save and a listing, and
+ * checks the request can be broken down from the recording alone.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"spring.datasource.url=jdbc:h2:mem:flight-recorder",
+				"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"mybetapp.reactive.enabled=false", "mybetapp.matches.page-cache.enabled=false"})
+class FlightRecorderEventsTest {
+
+	private static final String MATCH_JSON = """
+			{"matchDate":"2031-05-01","matchTime":"20:45","teamA":"OSFP","teamB":"PAO","sport":"FOOTBALL",
+			"odds":[{"specifier":"WIN","odd":1.9},{"specifier":"DRAW","odd":3.1},{"specifier":"LOSE","odd":4.2}]}
+			""";
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	@LocalServerPort
+	private int port;
+
+	@MockitoBean
+	private JwtDecoder jwtDecoder;
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void shippedProfileRecordsRequestPhasesAndQueries() throws Exception {
+		when(jwtDecoder.decode(anyString())).thenAnswer(invocation -> Jwt.withTokenValue(invocation.getArgument(0))
+				.header("alg", "none").claim("preferred_username", "jfr-user").issuedAt(Instant.now())
+				.expiresAt(Instant.now().plusSeconds(60)).build());
+
+		Path recordingFile = tempDir.resolve("requests.jfr");
+		try (Recording recording = new Recording(Configuration.create(Path.of("jfr", "mybetapp.jfc")))) {
+			recording.start();
+
+			HttpResponse<String> saved = httpClient.send(
+					HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/bet/saveMatch"))
+							.header("Authorization", "Bearer token").header("Content-Type", "application/json")
+							.POST(HttpRequest.BodyPublishers.ofString(MATCH_JSON)).build(),
+					HttpResponse.BodyHandlers.ofString());
+			assertThat(saved.statusCode()).as(saved.body()).isEqualTo(201);
+
+			HttpResponse<String> listed = httpClient.send(
+					HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/bet/matches?sport=FOOTBALL"))
+							.build(),
+					HttpResponse.BodyHandlers.ofString());
+			assertThat(listed.statusCode()).isEqualTo(200);
+
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+		assertThat(events("com.mybetapp.MatchRequest", events))
+				.extracting(event -> event.getString("method"), event -> event.getString("endpoint"),
+						event -> event.getInt("status"))
+				.containsExactly(tuple("POST", "/bet/saveMatch", 201), tuple("GET", "/bet/matches", 200));
+		assertThat(events("com.mybetapp.MatchServicePhase", events))
+				.extracting(event -> event.getString("operation"), event -> event.getString("phase"))
+				.containsExactly(tuple("SaveMatchRequest", "validation"), tuple("saveMatch", "mapping"),
+						tuple("saveMatch", "persistence"), tuple("saveMatch", "dto-mapping"));
+		assertThat(events("com.mybetapp.MatchQuery", events))
+				.extracting(event -> event.getString("query"), event -> event.getString("filter"),
+						event -> event.getLong("rows"))
+				.containsExactly(tuple("findMatchDTOPage", "sport", 1L), tuple("findOddsRowsByMatchIdIn", "matchId", 3L));
+	}
+
+	private static List<RecordedEvent> events(String name, List<RecordedEvent> events) {
+		// Each thread writes its own buffer, so the file is not in start order
+		return events.stream().filter(event -> event.getEventType().getName().equals(name))
+				.sorted(Comparator.comparing(RecordedEvent::getStartTime)).toList();
+	}
+}
@@ -0,0 +1,41 @@
+package com.mybetapp.load;
+
+import com.mybetapp.load.OpenLoadGenerator.ArrivalProcess;
+import com.mybetapp.load.OpenLoadGenerator.ArrivalStream;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The traffic mixes the load harness can drive.
+ */
+enum LoadScenario {
+
+	/**
+	 * Anonymous browsing only, at the read rate.
+	 */
+	BROWSE,
+
+	/**
+	 * Authenticated saves, updates and deletes only, at the write rate.
+	 */
+	WRITES,
+
+	/**
+	 * Browsing at the read rate, plus write bursts at the write rate for the
+	 * first 2 seconds of every 10.
+	 */
+	MIXED;
+
+	private static final Duration BURST = Duration.ofSeconds(2);
+	private static final Duration BURST_PERIOD = Duration.ofSeconds(10);
+
+	List<ArrivalStream> streams(MatchTraffic traffic, double readsPerSecond, double writesPerSecond) {
+		ArrivalStream reads = new ArrivalStream(ArrivalProcess.poisson(readsPerSecond), traffic::read);
+		return switch (this) {
+			case BROWSE -> List.of(reads);
+			case WRITES -> List.of(new ArrivalStream(ArrivalProcess.poisson(writesPerSecond), traffic::write));
+			case MIXED -> List.of(reads, new ArrivalStream(
+					ArrivalProcess.bursts(writesPerSecond, BURST, BURST_PERIOD), traffic::write));
+		};
+	}
+}
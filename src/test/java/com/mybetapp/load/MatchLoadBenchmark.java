@@ -0,0 +1,167 @@
+package com.mybetapp.load;
+
+import com.mybetapp.MySpringbootAppApplication;
+import com.mybetapp.dataset.SyntheticDatasetSpec;
+import com.mybetapp.dataset.SyntheticMatchGenerator;
+import com.mybetapp.dataset.SyntheticMatchGenerator.SyntheticMatch;
+import com.mybetapp.entities.Match;
+import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.load.OpenLoadGenerator.Report;
+import com.mybetapp.repositories.MatchRepository;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * End-to-end load test of the servlet API: boots the whole application on a
+ * random port, seeds it with a synthetic dataset and drives one
+ * {@link LoadScenario} at a fixed open-model arrival rate. Tokens come from a
+ * {@link StubJwtIssuer} and go through the real JWT decoder.
+ *
+ * <p>
+ * The database is PostgreSQL: the one at {@code load.jdbc-url} if set, else a
+ * Testcontainers instance. Without Docker it falls back to in-memory H2, which
+ * is only good for a smoke run of the harness (deletes use PostgreSQL's
+ * {@code RETURNING} and fail there).
+ *
+ * <p>
+ * Opt-in, as it runs for minutes and prints results instead of asserting:
+ *
+ * <pre>
+ * mvn test -Dtest=MatchLoadBenchmark -Dload=true [-Dload.scenario=mixed -Dload.rate=200 -Dload.seconds=60]
+ * </pre>
+ *
+ * Latency percentiles per operation are printed, and full HdrHistogram
+ * distributions are written to {@code target/load/<scenario>}.
+ */
+@EnabledIfSystemProperty(named = "load", matches = "true")
+class MatchLoadBenchmark {
+
+	private static final LoadScenario SCENARIO = LoadScenario
+			.valueOf(System.getProperty("load.scenario", "mixed").toUpperCase(Locale.ROOT));
+	private static final double READ_RATE = Double.parseDouble(System.getProperty("load.rate", "200"));
+	private static final double WRITE_RATE = Double.parseDouble(System.getProperty("load.write-rate", "50"));
+	private static final Duration WARM_UP = Duration.ofSeconds(Integer.getInteger("load.warm-up-seconds", 15));
+	private static final Duration MEASURE = Duration.ofSeconds(Integer.getInteger("load.seconds", 60));
+	private static final long SEED = Long.getLong("load.seed", 42);
+	private static final int USERS = Integer.getInteger("load.users", 20);
+	private static final SyntheticDatasetSpec DATASET = new SyntheticDatasetSpec(
+			Long.getLong("load.matches", 50_000), 200, 60, LocalDate.of(2030, 1, 1), 365, 0.4, 1.05, 12.0, SEED);
+
+	@Test
+	void runScenario() throws Exception {
+		String jdbcUrl = System.getProperty("load.jdbc-url");
+		if (jdbcUrl != null) {
+			run(postgresArgs(jdbcUrl, System.getProperty("load.jdbc-user", "postgres"),
+					System.getProperty("load.jdbc-password", "postgres")), false);
+		} else if (DockerClientFactory.instance().isDockerAvailable()) {
+			try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")) {
+				postgres.start();
+				run(postgresArgs(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()), false);
+			}
+		} else {
+			System.out.println("No load.jdbc-url and no Docker: running on H2, results are not representative");
+			run(List.of("--spring.datasource.url=jdbc:h2:mem:load",
+					"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"), true);
+		}
+	}
+
+	private List<String> postgresArgs(String jdbcUrl, String user, String password) {
+		// The dataset runner seeds the database through COPY before the port opens
+		return List.of("--spring.datasource.url=" + jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?")
+				+ "reWriteBatchedInserts=true", "--spring.datasource.username=" + user,
+				"--spring.datasource.password=" + password, "--mybetapp.dataset.load=true",
+				"--mybetapp.dataset.matches=" + DATASET.matches(), "--mybetapp.dataset.owners=" + DATASET.owners(),
+				"--mybetapp.dataset.teams=" + DATASET.teams(), "--mybetapp.dataset.first-date=" + DATASET.firstDate(),
+				"--mybetapp.dataset.days=" + DATASET.days(), "--mybetapp.dataset.seed=" + DATASET.seed());
+	}
+
+	private void run(List<String> databaseArgs, boolean seedThroughRepository) throws Exception {
+		try (StubJwtIssuer issuer = new StubJwtIssuer()) {
+			List<String> args = new ArrayList<>(List.of("--server.port=0", "--spring.main.banner-mode=off",
+					"--logging.level.root=WARN", "--mybetapp.reactive.enabled=false",
+					"--mybetapp.security.jwk-set-uri=" + issuer.jwkSetUri(),
+					"--mybetapp.security.issuer=" + StubJwtIssuer.ISSUER));
+			args.addAll(databaseArgs);
+			// Extra application arguments, to compare configurations under the same load
+			String appArgs = System.getProperty("load.app-args", "").trim();
+			if (!appArgs.isEmpty()) {
+				args.addAll(Arrays.asList(appArgs.split("\\s+")));
+			}
+
+			// Passed as arguments so they win over application.properties
+			try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+					MySpringbootAppApplication.class).run(args.toArray(String[]::new))) {
+				if (seedThroughRepository) {
+					seed(context.getBean(MatchRepository.class));
+				}
+				int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+				List<String> tokens = new ArrayList<>(USERS);
+				for (int i = 0; i < USERS; i++) {
+					tokens.add(issuer.issue("load-user-" + i, WARM_UP.plus(MEASURE).plusMinutes(10)));
+				}
+
+				HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+						.executor(Executors.newVirtualThreadPerTaskExecutor()).connectTimeout(Duration.ofSeconds(10))
+						.build();
+				MatchTraffic traffic = new MatchTraffic("http://localhost:" + port, DATASET, tokens);
+				OpenLoadGenerator generator = new OpenLoadGenerator(httpClient);
+
+				generator.run(SCENARIO.streams(traffic, READ_RATE, WRITE_RATE), WARM_UP, SEED - 1);
+				Report report = generator.run(SCENARIO.streams(traffic, READ_RATE, WRITE_RATE), MEASURE, SEED);
+
+				Path distributions = Path.of("target", "load", SCENARIO.name().toLowerCase(Locale.ROOT));
+				report.writeDistributions(distributions);
+
+				System.out.printf("%n%s: %.0f reads/s, %.0f writes/s, %ds measured, seed %d%n", SCENARIO, READ_RATE,
+						WRITE_RATE, MEASURE.toSeconds(), SEED);
+				report.print(System.out);
+				System.out.println("Latency distributions: " + distributions.toAbsolutePath());
+			}
+		}
+	}
+
+	private void seed(MatchRepository matchRepository) {
+		SyntheticMatchGenerator generator = new SyntheticMatchGenerator(DATASET);
+		for (long from = 0; from < DATASET.matches(); from += 5_000) {
+			matchRepository.saveAll(LongStream.range(from, Math.min(from + 5_000, DATASET.matches()))
+					.mapToObj(generator::match).map(this::toMatch).toList());
+		}
+	}
+
+	private Match toMatch(SyntheticMatch synthetic) {
+		Match match = new Match();
+		match.setOwner(synthetic.owner());
+		match.setDescription(synthetic.description());
+		match.setMatchDate(synthetic.matchDate());
+		match.setMatchTime(synthetic.matchTime());
+		match.setTeamA(synthetic.teamA());
+		match.setTeamB(synthetic.teamB());
+		match.setSport(synthetic.sport());
+		double[] odds = {synthetic.win(), synthetic.draw(), synthetic.lose()};
+		for (Specifier specifier : Specifier.values()) {
+			MatchOdds odd = new MatchOdds();
+			odd.setSpecifier(specifier);
+			odd.setOdd(odds[specifier.ordinal()]);
+			odd.setMatch(match);
+			match.getOdds().add(odd);
+		}
+		return match;
+	}
+}
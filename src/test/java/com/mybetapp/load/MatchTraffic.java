@@ -0,0 +1,176 @@
+package com.mybetapp.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybetapp.dataset.SyntheticDatasetSpec;
+import com.mybetapp.load.OpenLoadGenerator.LoadRequest;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds the requests of the load scenarios. Reads are anonymous and spread
+ * their filters over the seeded dataset; writes are signed by one of a fixed
+ * set of users, and updates and deletes only touch matches that user created
+ * earlier in the run.
+ */
+final class MatchTraffic {
+
+	private static final String[] SORT_PROPERTIES = {"matchDate", "sport", "owner"};
+	private static final int[] PAGE_SIZES = {10, 20, 50};
+
+	private final String baseUri;
+	private final SyntheticDatasetSpec dataset;
+	private final List<User> users;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicLong savedMatches = new AtomicLong();
+
+	MatchTraffic(String baseUri, SyntheticDatasetSpec dataset, List<String> tokens) {
+		this.baseUri = baseUri;
+		this.dataset = dataset;
+		this.users = new ArrayList<>(tokens.size());
+		tokens.forEach(token -> users.add(new User(token)));
+	}
+
+	/**
+	 * Anonymous browsing: mostly listing pages, with the occasional slice,
+	 * day schedule or first scroll window.
+	 */
+	LoadRequest read(SplittableRandom random) {
+		int pick = random.nextInt(100);
+		if (pick < 60) {
+			return get("list", "/bet/matches?" + pageParameters(random) + filterParameters(random, true));
+		}
+		if (pick < 75) {
+			return get("slice", "/bet/matches/slice?" + pageParameters(random) + filterParameters(random, true));
+		}
+		if (pick < 90) {
+			String sport = random.nextBoolean() ? "" : "&sport=" + sport(random);
+			return get("schedule", "/bet/schedule?matchDate=" + matchDate(random) + sport);
+		}
+		return get("scroll", "/bet/matches/scroll?size=20" + filterParameters(random, false));
+	}
+
+	/**
+	 * Authenticated writes: half saves, the rest updates and deletes of the
+	 * user's own earlier saves. Falls back to a save while the user has nothing
+	 * to update or delete yet.
+	 */
+	LoadRequest write(SplittableRandom random) {
+		User user = users.get(random.nextInt(users.size()));
+		int pick = random.nextInt(100);
+
+		if (pick >= 50) {
+			OwnedMatch match = user.matches.pollFirst();
+			if (match != null) {
+				return pick < 80 ? update(user, match, random) : delete(user, match);
+			}
+		}
+		return save(user, random);
+	}
+
+	private LoadRequest save(User user, SplittableRandom random) {
+		long n = savedMatches.incrementAndGet();
+		// Team names no seeded match uses keep every save clear of the duplicate check
+		OwnedMatch match = new OwnedMatch(0, "LOAD A " + n, "LOAD B " + n, matchDate(random),
+				LocalTime.of(random.nextInt(24), random.nextInt(4) * 15), sport(random));
+
+		HttpRequest request = authorized(user, "/bet/saveMatch").header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body(match, random))).build();
+		return new LoadRequest("save", request, response -> {
+			if (response.statusCode() == 201) {
+				user.matches.addLast(match.withId(matchId(response)));
+			}
+		});
+	}
+
+	private LoadRequest update(User user, OwnedMatch match, SplittableRandom random) {
+		HttpRequest request = authorized(user, "/bet/updateMatch/" + match.id())
+				.header("Content-Type", "application/json")
+				.PUT(HttpRequest.BodyPublishers.ofString(body(match, random))).build();
+		// Back in the pool only once done, so no delete races the update
+		return new LoadRequest("update", request, response -> user.matches.addLast(match));
+	}
+
+	private LoadRequest delete(User user, OwnedMatch match) {
+		return new LoadRequest("delete", authorized(user, "/bet/matches/" + match.id()).DELETE().build(), null);
+	}
+
+	private LoadRequest get(String operation, String path) {
+		return new LoadRequest(operation, HttpRequest.newBuilder(URI.create(baseUri + path)).GET().build(), null);
+	}
+
+	private HttpRequest.Builder authorized(User user, String path) {
+		return HttpRequest.newBuilder(URI.create(baseUri + path)).header("Authorization", "Bearer " + user.token);
+	}
+
+	private String pageParameters(SplittableRandom random) {
+		return "page=" + random.nextInt(20) + "&size=" + PAGE_SIZES[random.nextInt(PAGE_SIZES.length)] + "&sortBy="
+				+ SORT_PROPERTIES[random.nextInt(SORT_PROPERTIES.length)] + "&direction="
+				+ (random.nextBoolean() ? "asc" : "desc");
+	}
+
+	/**
+	 * Each filter is set independently, so all eight owner/sport/matchDate
+	 * combinations show up, the unfiltered listing most often.
+	 */
+	private String filterParameters(SplittableRandom random, boolean withOwner) {
+		StringBuilder filters = new StringBuilder();
+		if (withOwner && random.nextInt(100) < 30) {
+			filters.append("&owner=owner").append(random.nextInt(dataset.owners()));
+		}
+		if (random.nextInt(100) < 40) {
+			filters.append("&sport=").append(sport(random));
+		}
+		if (random.nextInt(100) < 40) {
+			filters.append("&matchDate=").append(matchDate(random));
+		}
+		return filters.toString();
+	}
+
+	private LocalDate matchDate(SplittableRandom random) {
+		return dataset.firstDate().plusDays(random.nextInt(dataset.days()));
+	}
+
+	private static String sport(SplittableRandom random) {
+		return random.nextBoolean() ? "FOOTBALL" : "BASKETBALL";
+	}
+
+	private static String body(OwnedMatch match, SplittableRandom random) {
+		return String.format(Locale.ROOT, """
+				{"description":"load %d","matchDate":"%s","matchTime":"%s","teamA":"%s","teamB":"%s","sport":"%s",
+				"odds":[{"specifier":"WIN","odd":%.2f},{"specifier":"DRAW","odd":%.2f},{"specifier":"LOSE","odd":%.2f}]}
+				""", random.nextInt(1000), match.matchDate(), match.matchTime(), match.teamA(), match.teamB(),
+				match.sport(), 1.2 + random.nextDouble(5), 1.2 + random.nextDouble(5), 1.2 + random.nextDouble(5));
+	}
+
+	private long matchId(HttpResponse<String> response) {
+		try {
+			return objectMapper.readTree(response.body()).get("matchId").asLong();
+		} catch (Exception e) {
+			throw new IllegalStateException("Unexpected saveMatch response: " + response.body(), e);
+		}
+	}
+
+	private record User(String token, ConcurrentLinkedDeque<OwnedMatch> matches) {
+
+		User(String token) {
+			this(token, new ConcurrentLinkedDeque<>());
+		}
+	}
+
+	private record OwnedMatch(long id, String teamA, String teamB, LocalDate matchDate, LocalTime matchTime,
+			String sport) {
+
+		OwnedMatch withId(long matchId) {
+			return new OwnedMatch(matchId, teamA, teamB, matchDate, matchTime, sport);
+		}
+	}
+}
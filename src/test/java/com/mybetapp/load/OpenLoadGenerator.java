@@ -0,0 +1,238 @@
+package com.mybetapp.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Open-model load: requests are sent at their scheduled arrival time whether or
+ * not earlier ones have completed, the way independent users arrive. Latency is
+ * measured from the scheduled time rather than the actual send, so a stalled
+ * server shows up in the percentiles instead of silently slowing the load down
+ * (coordinated omission).
+ *
+ * <p>
+ * Arrival times and request parameters come from one seeded random stream per
+ * {@link ArrivalStream}, drawn on the scheduling thread, so a run with the
+ * same seed sends the same sequence of requests.
+ */
+final class OpenLoadGenerator {
+
+	private final HttpClient httpClient;
+
+	OpenLoadGenerator(HttpClient httpClient) {
+		this.httpClient = httpClient;
+	}
+
+	Report run(List<ArrivalStream> streams, Duration duration, long seed) throws InterruptedException {
+		SplittableRandom seeds = new SplittableRandom(seed);
+		SplittableRandom[] randoms = new SplittableRandom[streams.size()];
+		long[] nextArrivals = new long[streams.size()];
+		long start = System.nanoTime();
+		for (int i = 0; i < streams.size(); i++) {
+			randoms[i] = seeds.split();
+			nextArrivals[i] = streams.get(i).arrivals().next(0, randoms[i]);
+		}
+
+		Report report = new Report(duration);
+		AtomicInteger inFlight = new AtomicInteger();
+		try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+			while (true) {
+				int next = 0;
+				for (int i = 1; i < nextArrivals.length; i++) {
+					if (nextArrivals[i] < nextArrivals[next]) {
+						next = i;
+					}
+				}
+				long offset = nextArrivals[next];
+				if (offset >= duration.toNanos()) {
+					break;
+				}
+
+				LoadRequest request = streams.get(next).requests().apply(randoms[next]);
+				nextArrivals[next] = streams.get(next).arrivals().next(offset, randoms[next]);
+
+				long scheduled = start + offset;
+				for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+					LockSupport.parkNanos(wait);
+				}
+
+				report.maxInFlight = Math.max(report.maxInFlight, inFlight.incrementAndGet());
+				senders.execute(() -> {
+					try {
+						send(request, scheduled, report);
+					} finally {
+						inFlight.decrementAndGet();
+					}
+				});
+			}
+		}
+		return report;
+	}
+
+	private void send(LoadRequest request, long scheduled, Report report) {
+		int status;
+		HttpResponse<String> response = null;
+		try {
+			response = httpClient.send(request.request(), HttpResponse.BodyHandlers.ofString());
+			status = response.statusCode();
+		} catch (IOException e) {
+			status = -1;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		report.record(request.operation(), System.nanoTime() - scheduled, status);
+
+		if (response != null && request.onResponse() != null) {
+			request.onResponse().accept(response);
+		}
+	}
+
+	/**
+	 * A source of requests with its own arrival process.
+	 */
+	record ArrivalStream(ArrivalProcess arrivals, Function<SplittableRandom, LoadRequest> requests) {
+	}
+
+	/**
+	 * One request to send and what to do with its response, if anything.
+	 */
+	record LoadRequest(String operation, HttpRequest request, Consumer<HttpResponse<String>> onResponse) {
+	}
+
+	/**
+	 * When the next request of a stream arrives, in nanoseconds from the start of
+	 * the run.
+	 */
+	interface ArrivalProcess {
+
+		long next(long previous, SplittableRandom random);
+
+		/**
+		 * Poisson arrivals: exponentially distributed gaps averaging
+		 * {@code 1 / perSecond}.
+		 */
+		static ArrivalProcess poisson(double perSecond) {
+			return (previous, random) -> previous + exponentialGap(perSecond, random);
+		}
+
+		/**
+		 * Poisson arrivals at {@code perSecond} during the first {@code on} of every
+		 * {@code period}, none in between.
+		 */
+		static ArrivalProcess bursts(double perSecond, Duration on, Duration period) {
+			long onNanos = on.toNanos();
+			long periodNanos = period.toNanos();
+			return (previous, random) -> {
+				long next = previous + exponentialGap(perSecond, random);
+				if (next % periodNanos >= onNanos) {
+					// Gaps are memoryless, so restarting at the next burst keeps the rate exact
+					next = (next / periodNanos + 1) * periodNanos + exponentialGap(perSecond, random);
+				}
+				return next;
+			};
+		}
+
+		private static long exponentialGap(double perSecond, SplittableRandom random) {
+			return (long) (-Math.log(1 - random.nextDouble()) * 1e9 / perSecond);
+		}
+	}
+
+	/**
+	 * Latency histograms (nanoseconds, 3 significant digits) and failures per
+	 * operation. Anything but a 2xx counts as an error and is left out of the
+	 * histogram.
+	 */
+	static final class Report {
+
+		private final Duration duration;
+		private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+		private final Map<String, Map<Integer, LongAdder>> errors = new ConcurrentHashMap<>();
+		private volatile int maxInFlight;
+
+		private Report(Duration duration) {
+			this.duration = duration;
+		}
+
+		private void record(String operation, long latencyNanos, int status) {
+			if (status >= 200 && status < 300) {
+				latencies.computeIfAbsent(operation, key -> new ConcurrentHistogram(3)).recordValue(latencyNanos);
+			} else {
+				errors.computeIfAbsent(operation, key -> new ConcurrentHashMap<>())
+						.computeIfAbsent(status, key -> new LongAdder()).increment();
+			}
+		}
+
+		Histogram total() {
+			Histogram total = new Histogram(3);
+			latencies.values().forEach(total::add);
+			return total;
+		}
+
+		void print(PrintStream out) {
+			out.printf("%-10s %9s %8s %8s %8s %8s %9s %9s %s%n", "operation", "req/s", "p50 ms", "p90 ms", "p99 ms",
+					"p99.9 ms", "max ms", "errors", "error statuses");
+			Set<String> operations = new TreeSet<>(latencies.keySet());
+			operations.addAll(errors.keySet());
+			operations.forEach(operation -> printRow(out, operation, latencies.getOrDefault(operation, new Histogram(3))));
+			printRow(out, "total", total());
+			out.printf("max in flight: %d%n", maxInFlight);
+		}
+
+		/**
+		 * Writes one HdrHistogram percentile distribution per operation, which the
+		 * HdrHistogram plotter can overlay across runs.
+		 */
+		void writeDistributions(Path directory) throws IOException {
+			Files.createDirectories(directory);
+			for (Map.Entry<String, Histogram> entry : new TreeMap<>(latencies).entrySet()) {
+				writeDistribution(directory.resolve(entry.getKey() + ".hgrm"), entry.getValue());
+			}
+			writeDistribution(directory.resolve("total.hgrm"), total());
+		}
+
+		private void writeDistribution(Path file, Histogram histogram) throws IOException {
+			try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+				histogram.outputPercentileDistribution(out, 1e6);
+			}
+		}
+
+		private void printRow(PrintStream out, String operation, Histogram histogram) {
+			Map<Integer, Long> statuses = new TreeMap<>();
+			errors.forEach((op, counts) -> {
+				if (op.equals(operation) || operation.equals("total")) {
+					counts.forEach((status, count) -> statuses.merge(status, count.sum(), Long::sum));
+				}
+			});
+			long errorCount = statuses.values().stream().mapToLong(Long::longValue).sum();
+
+			out.printf("%-10s %9.1f %8.1f %8.1f %8.1f %8.1f %9.1f %9d %s%n", operation,
+					(histogram.getTotalCount() + errorCount) / (double) duration.toSeconds(),
+					histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(90) / 1e6,
+					histogram.getValueAtPercentile(99) / 1e6, histogram.getValueAtPercentile(99.9) / 1e6,
+					histogram.getMaxValue() / 1e6, errorCount, statuses.isEmpty() ? "" : statuses);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.mybetapp.load;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Stands in for Keycloak: serves a JWK set on a local port and signs tokens
+ * with the matching key, so the backend validates them through its real
+ * {@code JwtDecoder} (signature, issuer and expiry) instead of a mock.
+ */
+final class StubJwtIssuer implements AutoCloseable {
+
+	static final String ISSUER = "http://localhost:8188/realms/my-quarkus-app";
+
+	private final RSAKey key;
+	private final HttpServer server;
+
+	StubJwtIssuer() throws IOException, JOSEException {
+		key = new RSAKeyGenerator(2048).keyID("load-test").generate();
+		byte[] jwkSet = new JWKSet(key.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/certs", exchange -> {
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, jwkSet.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(jwkSet);
+			}
+		});
+		server.start();
+	}
+
+	String jwkSetUri() {
+		return "http://localhost:" + server.getAddress().getPort() + "/certs";
+	}
+
+	String issue(String username, Duration lifetime) throws JOSEException {
+		Instant now = Instant.now();
+		SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+				new JWTClaimsSet.Builder().issuer(ISSUER).subject(username).claim("preferred_username", username)
+						.issueTime(Date.from(now)).expirationTime(Date.from(now.plus(lifetime))).build());
+		jwt.sign(new RSASSASigner(key));
+		return jwt.serialize();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+}
@@ -0,0 +1,76 @@
+package com.mybetapp.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Serves a few anonymous requests and checks that every metric family the
+ * dashboards rely on shows up on the Prometheus endpoint, which only answers
+ * authenticated scrapes.
+ * Metric export is off in Spring Boot tests unless switched back on.
+ */
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"spring.datasource.url=jdbc:h2:mem:metrics",
+				"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"mybetapp.reactive.enabled=false", "mybetapp.matches.page-cache.enabled=false"})
+class MetricsEndpointTest {
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	@LocalServerPort
+	private int port;
+
+	@MockitoBean
+	private JwtDecoder jwtDecoder;
+
+	@Test
+	void prometheusEndpointExposesRequestRepositoryPoolAndStatementMetrics() throws Exception {
+		assertThat(get("/bet/matches?size=5").statusCode()).isEqualTo(200);
+		assertThat(get("/bet/matches/scroll?cursor=not-a-cursor").statusCode()).isEqualTo(400);
+
+		when(jwtDecoder.decode("scraper")).thenReturn(Jwt.withTokenValue("scraper").header("alg", "none")
+				.claim("preferred_username", "prometheus").issuedAt(Instant.now())
+				.expiresAt(Instant.now().plusSeconds(60)).build());
+		HttpResponse<String> scrape = httpClient.send(
+				HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/prometheus"))
+						.header("Authorization", "Bearer scraper").build(),
+				HttpResponse.BodyHandlers.ofString());
+
+		assertThat(scrape.statusCode()).isEqualTo(200);
+		assertThat(scrape.body())
+				.contains("http_server_requests_seconds_bucket{application=\"my-springboot-app\"")
+				.containsPattern("http_server_requests_seconds_count\\{[^}]*uri=\"/bet/matches\"")
+				.containsPattern("spring_data_repository_invocations_seconds_bucket\\{[^}]*repository=\"MatchRepository\"")
+				.contains("hikaricp_connections_acquire_seconds_bucket", "hikaricp_connections_usage_seconds_bucket",
+						"hikaricp_connections_pending")
+				// An empty first page needs no count query
+				.containsPattern("mybetapp_jpa_statements_sum\\{[^}]*uri=\"/bet/matches\"} 1.0")
+				.containsPattern(
+						"mybetapp_match_errors_total\\{[^}]*category=\"bad_request\",endpoint=\"scrollMatches\"} 1.0");
+	}
+
+	@Test
+	void prometheusEndpointRejectsAnonymousScrape() throws Exception {
+		assertThat(get("/actuator/prometheus").statusCode()).isEqualTo(401);
+		assertThat(get("/actuator/health").statusCode()).isEqualTo(200);
+	}
+
+	private HttpResponse<String> get(String path) throws Exception {
+		return httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+				HttpResponse.BodyHandlers.ofString());
+	}
+}
@@ -0,0 +1,109 @@
+package com.mybetapp.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mybetapp.entities.Match;
+import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.util.MatchFilterKey;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the native {@code delete ... returning} of
+ * {@link MatchRepositoryCustomImpl#deleteByIdAndOwner} against PostgreSQL, which
+ * the H2 tests cannot. Skipped where Docker is not available.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MatchDeleteReturningTest {
+
+	private static final LocalDate MATCH_DATE = LocalDate.of(2030, 1, 1);
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Long matchId;
+
+	@BeforeEach
+	void setUp() {
+		Match match = new Match();
+		match.setOwner("owner1");
+		match.setDescription("MATCH");
+		match.setMatchDate(MATCH_DATE);
+		match.setMatchTime(LocalTime.of(18, 0));
+		match.setTeamA("TEAM A");
+		match.setTeamB("TEAM B");
+		match.setSport(Sport.BASKETBALL);
+		for (Specifier specifier : Specifier.values()) {
+			MatchOdds odd = new MatchOdds();
+			odd.setSpecifier(specifier);
+			odd.setOdd(1.5);
+			odd.setMatch(match);
+			match.getOdds().add(odd);
+		}
+
+		entityManager.persist(match);
+		entityManager.flush();
+		entityManager.clear();
+		matchId = match.getId();
+	}
+
+	@Test
+	void deleteByIdAndOwner_ownerDeletesAndGetsFilterKey() {
+		assertThat(matchRepository.deleteByIdAndOwner(matchId, "owner1"))
+				.contains(new MatchFilterKey("owner1", Sport.BASKETBALL, MATCH_DATE));
+
+		assertThat(count("select count(*) from matches where id = :id")).isZero();
+	}
+
+	@Test
+	void deleteByIdAndOwner_otherOwnerDeletesNothing() {
+		assertThat(matchRepository.deleteByIdAndOwner(matchId, "owner2")).isEmpty();
+
+		assertThat(count("select count(*) from matches where id = :id")).isOne();
+		assertThat(count("select count(*) from match_odds where match_id = :id"))
+				.isEqualTo(Specifier.values().length);
+	}
+
+	@Test
+	void deleteByIdAndOwner_cascadesToOdds() {
+		matchRepository.deleteByIdAndOwner(matchId, "owner1");
+
+		// Removed by the foreign key's ON DELETE CASCADE, not by Hibernate
+		assertThat(count("select count(*) from match_odds where match_id = :id")).isZero();
+	}
+
+	private long count(String sql) {
+		return ((Number) entityManager.createNativeQuery(sql).setParameter("id", matchId).getSingleResult())
+				.longValue();
+	}
+}
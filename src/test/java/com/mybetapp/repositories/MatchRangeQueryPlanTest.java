@@ -0,0 +1,95 @@
+package com.mybetapp.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mybetapp.dataset.CopyMatchLoader;
+import com.mybetapp.dataset.SyntheticDatasetSpec;
+import com.mybetapp.dataset.SyntheticMatchGenerator;
+import com.mybetapp.util.MatchFilterKey;
+import com.mybetapp.util.MatchSorts;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Checks that PostgreSQL answers a kick-off range listing from
+ * {@code idx_matches_date_time_id} rather than by scanning the table. Explains
+ * the SQL Hibernate actually generates for the range. Skipped where Docker is
+ * not available.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.mybetapp.repositories.MatchRangeQueryPlanTest$ListingQueryCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MatchRangeQueryPlanTest {
+
+	private static final int MATCHES = 50_000;
+	private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Test
+	void rangeListing_usesDateTimeIndex() throws Exception {
+		new CopyMatchLoader(dataSource, 5_000).load(new SyntheticMatchGenerator(
+				new SyntheticDatasetSpec(MATCHES, 25, 40, FIRST_DATE, 30, 0.4, 1.05, 12.0, 42)));
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("analyze matches");
+
+		LocalDateTime from = FIRST_DATE.plusDays(10).atTime(18, 0);
+		LocalDateTime to = from.plusHours(6);
+		ListingQueryCapture.sql = null;
+		matchRepository.findMatchDTOs(new MatchFilterKey(null, null, null).withRange(from, to),
+				MatchSorts.of("matchDate", "asc"));
+
+		String plan = String.join("\n", jdbc.queryForList("explain " + ListingQueryCapture.sql, String.class,
+				from.toLocalDate(), from.toLocalTime(), to.toLocalDate(), to.toLocalTime()));
+
+		assertThat(plan).contains("idx_matches_date_time_id").doesNotContain("Seq Scan on matches");
+	}
+
+	/**
+	 * Remembers the last listing statement Hibernate prepares.
+	 */
+	public static class ListingQueryCapture implements StatementInspector {
+
+		static volatile String sql;
+
+		@Override
+		public String inspect(String statement) {
+			if (statement.contains("from matches")) {
+				sql = statement;
+			}
+			return statement;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package com.mybetapp.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchExportRow;
+import com.mybetapp.entities.Match;
+import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.util.MatchFilterKey;
+import com.mybetapp.util.MatchSorts;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@DataJpaTest(properties = {"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"})
+class MatchRepositoryCustomImplTest {
+
+	private static final LocalDate FIRST_DATE = LocalDate.of(2025, 1, 1);
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<Match> stored = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 24; i++) {
+			Match match = createMatch(i);
+			entityManager.persist(match);
+			stored.add(match);
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	static Stream<MatchFilterKey> filters() {
+		// Every combination of set and open filters
+		return IntStream.range(0, 8).mapToObj(mask -> new MatchFilterKey(
+				(mask & MatchFilterKey.OWNER) != 0 ? "owner1" : null,
+				(mask & MatchFilterKey.SPORT) != 0 ? Sport.BASKETBALL : null,
+				(mask & MatchFilterKey.MATCH_DATE) != 0 ? FIRST_DATE.plusDays(1) : null));
+	}
+
+	@ParameterizedTest
+	@MethodSource("filters")
+	void listings_returnMatchesCoveredByFilter(MatchFilterKey filter) {
+		List<Long> expected = stored.stream().filter(match -> filter.covers(MatchFilterKey.of(match)))
+				.sorted(Comparator.comparing(Match::getMatchDate).thenComparing(Match::getMatchTime).reversed())
+				.map(Match::getId).toList();
+
+		assertThat(matchRepository.findMatchDTOs(filter, MatchSorts.of("matchDate", "desc")))
+				.extracting(MatchDTO::getMatchId).containsExactlyElementsOf(expected);
+		assertThat(matchRepository.countMatches(filter)).isEqualTo(expected.size());
+		assertThat(matchRepository.findMatchDTOPage(filter, PageRequest.of(0, 5, MatchSorts.of("matchDate", "desc")))
+				.getTotalElements()).isEqualTo(expected.size());
+		try (Stream<MatchExportRow> rows = matchRepository.streamMatchExportRows(filter)) {
+			assertThat(rows.map(MatchExportRow::matchId).distinct()).containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
+	@Test
+	void findMatchDTOs_rangeIncludesFromAndExcludesTo() {
+		// Starts and ends mid-day, so the bounds compare kick-off time as well as date
+		Match first = stored.get(5);
+		Match last = stored.get(22);
+		LocalDateTime from = first.getMatchDate().atTime(first.getMatchTime());
+		LocalDateTime to = last.getMatchDate().atTime(last.getMatchTime());
+		MatchFilterKey filter = new MatchFilterKey(null, null, null).withRange(from, to);
+
+		List<Long> expected = stored.stream().filter(match -> {
+			LocalDateTime kickOff = match.getMatchDate().atTime(match.getMatchTime());
+			return !kickOff.isBefore(from) && kickOff.isBefore(to);
+		}).sorted(Comparator.comparing(Match::getMatchDate).thenComparing(Match::getMatchTime)).map(Match::getId)
+				.toList();
+
+		assertThat(matchRepository.findMatchDTOs(filter, MatchSorts.of("matchDate", "asc")))
+				.extracting(MatchDTO::getMatchId).containsExactlyElementsOf(expected).contains(first.getId())
+				.doesNotContain(last.getId());
+		assertThat(matchRepository.countMatches(filter)).isEqualTo(expected.size());
+	}
+
+	@Test
+	void findMatchDTOs_openEndedRange() {
+		LocalDateTime from = FIRST_DATE.plusDays(3).atStartOfDay();
+		MatchFilterKey filter = new MatchFilterKey("owner0", null, null).withRange(from, null);
+
+		List<MatchDTO> matches = matchRepository.findMatchDTOs(filter, MatchSorts.of("matchDate", "asc"));
+
+		assertThat(matches).isNotEmpty().extracting(MatchDTO::getMatchDate).containsOnly(FIRST_DATE.plusDays(3));
+		assertThat(matches).extracting(MatchDTO::getMatchOwner).containsOnly("owner0");
+	}
+
+	@Test
+	void findMatchDTOPage_reusesQueryPlanAcrossFilterValues() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		PageRequest pageable = PageRequest.of(0, 5, MatchSorts.of("owner", "asc"));
+
+		matchRepository.findMatchDTOPage(new MatchFilterKey("owner0", Sport.FOOTBALL, null), pageable);
+		statistics.clear();
+		matchRepository.findMatchDTOPage(new MatchFilterKey("owner2", Sport.BASKETBALL, null), pageable);
+
+		// Listing and count query
+		assertThat(statistics.getQueryPlanCacheHitCount()).isEqualTo(2);
+		assertThat(statistics.getQueryPlanCacheMissCount()).isZero();
+	}
+
+	@Test
+	void findMatchDTOs_rejectsUnknownSortProperty() {
+		MatchFilterKey filter = new MatchFilterKey(null, null, null);
+
+		assertThatThrownBy(() -> matchRepository.findMatchDTOs(filter, Sort.by("description")))
+				.hasMessageContaining("Unsupported sort property: description");
+	}
+
+	private static Match createMatch(int index) {
+		Match match = new Match();
+		match.setOwner("owner" + (index % 3));
+		match.setDescription("MATCH " + index);
+		match.setMatchDate(FIRST_DATE.plusDays(index % 4));
+		match.setMatchTime(LocalTime.of(12, 0).plusMinutes(index));
+		match.setTeamA("TEAM A" + index);
+		match.setTeamB("TEAM B" + index);
+		match.setSport(index % 2 == 0 ? Sport.FOOTBALL : Sport.BASKETBALL);
+
+		for (Specifier specifier : Specifier.values()) {
+			MatchOdds odd = new MatchOdds();
+			odd.setSpecifier(specifier);
+			odd.setOdd(1.5);
+			odd.setMatch(match);
+			match.getOdds().add(odd);
+		}
+
+		return match;
+	}
+}
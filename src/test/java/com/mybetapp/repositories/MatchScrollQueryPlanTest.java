@@ -0,0 +1,122 @@
+package com.mybetapp.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mybetapp.dataset.CopyMatchLoader;
+import com.mybetapp.dataset.SyntheticDatasetSpec;
+import com.mybetapp.dataset.SyntheticMatchGenerator;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.repositories.MatchRangeQueryPlanTest.ListingQueryCapture;
+import com.mybetapp.util.MatchFilterKey;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Checks that PostgreSQL answers every keyset scroll ordering, filtered or not,
+ * with a seek on the index that ends in the same keys instead of a sort or a
+ * table scan. Explains the SQL Hibernate actually generates for the seek.
+ * Skipped where Docker is not available.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.mybetapp.repositories.MatchRangeQueryPlanTest$ListingQueryCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MatchScrollQueryPlanTest {
+
+	private static final int MATCHES = 50_000;
+	private static final int PAGE_SIZE = 11;
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+	}
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	private JdbcTemplate jdbc;
+
+	@BeforeAll
+	void loadMatches() throws Exception {
+		new CopyMatchLoader(dataSource, 5_000).load(new SyntheticMatchGenerator(
+				new SyntheticDatasetSpec(MATCHES, 25, 40, LocalDate.of(2030, 1, 1), 30, 0.4, 1.05, 12.0, 42)));
+		jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("analyze matches");
+	}
+
+	@ParameterizedTest
+	@CsvSource({"matchDate,DESC,false,idx_matches_date_time_id", "owner,ASC,false,idx_matches_owner_date_time_id",
+			"sport,DESC,false,idx_matches_sport_date_time_id", "matchDate,DESC,true,idx_matches_owner_date_time_id"})
+	void scrollSeek_usesIndexEndingInSortKeys(String sortBy, Sort.Direction direction, boolean ownerFilter,
+			String index) {
+		List<String> properties = new ArrayList<>();
+		if (!sortBy.equals("matchDate")) {
+			properties.add(sortBy);
+		}
+		properties.addAll(List.of("matchDate", "matchTime", "id"));
+		Sort sort = Sort.by(direction, properties.toArray(String[]::new));
+
+		// Somewhere in the middle, so the seek has rows on both sides
+		Map<String, Object> row = jdbc.queryForMap(
+				"select owner, sport, match_date, match_time, id from matches order by id offset ? limit 1",
+				MATCHES / 2);
+		Map<String, Object> position = new LinkedHashMap<>();
+		position.put("owner", row.get("owner"));
+		position.put("sport", Sport.valueOf((String) row.get("sport")));
+		position.put("matchDate", ((Date) row.get("match_date")).toLocalDate());
+		position.put("matchTime", ((Time) row.get("match_time")).toLocalTime());
+		position.put("id", ((Number) row.get("id")).longValue());
+
+		MatchFilterKey filter = new MatchFilterKey(ownerFilter ? (String) row.get("owner") : null, null, null);
+		ListingQueryCapture.sql = null;
+		assertThat(matchRepository.findMatchDTOsAfter(filter, sort, position, PAGE_SIZE)).hasSize(PAGE_SIZE);
+
+		// Bound in the order they appear in the SQL: filter, seek position, row limit
+		List<Object> parameters = new ArrayList<>();
+		if (ownerFilter) {
+			parameters.add(row.get("owner"));
+		}
+		properties.forEach(property -> parameters.add(property.equals("sport")
+				? row.get("sport")
+				: position.get(property)));
+		parameters.add(PAGE_SIZE);
+		String plan = String.join("\n",
+				jdbc.queryForList("explain " + ListingQueryCapture.sql, String.class, parameters.toArray()));
+
+		assertThat(plan).contains(index).doesNotContain("Sort").doesNotContain("Seq Scan on matches");
+	}
+}
@@ -0,0 +1,148 @@
+package com.mybetapp.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mybetapp.cache.MatchCountCache;
+import com.mybetapp.cache.MatchPageCache;
+import com.mybetapp.config.ReactiveDatabaseConfig;
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.entities.Match;
+import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.services.MatchServiceImpl;
+import com.mybetapp.util.MatchFilterKey;
+import com.mybetapp.util.MatchSorts;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Checks the R2DBC listing against {@link MatchServiceImpl#getPaginatedMatches}
+ * on the same PostgreSQL data. Skipped where Docker is not available.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "mybetapp.matches.page-cache.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MatchServiceImpl.class, MatchCountCache.class, MatchPageCache.class, LocalValidatorFactoryBean.class,
+		ReactiveDatabaseConfig.class, ReactiveMatchReader.class})
+class ReactiveMatchReaderTest {
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+		registry.add("mybetapp.reactive.r2dbc.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+				+ POSTGRES.getFirstMappedPort() + "/" + POSTGRES.getDatabaseName());
+	}
+
+	@Autowired
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private MatchServiceImpl matchService;
+
+	@Autowired
+	private ReactiveMatchReader matchReader;
+
+	@BeforeEach
+	void setUp() {
+		matchRepository.deleteAll();
+		for (int i = 0; i < 30; i++) {
+			Match match = new Match();
+			match.setOwner("owner" + i % 3);
+			match.setDescription("MATCH " + i);
+			match.setMatchDate(LocalDate.of(2031, 5, 1 + i % 4));
+			// Unique kick-offs, so date/time orderings have no ties across page boundaries
+			match.setMatchTime(LocalTime.NOON.plusMinutes(i));
+			match.setTeamA("TEAM A" + i);
+			match.setTeamB("TEAM B" + i);
+			match.setSport(i % 2 == 0 ? Sport.FOOTBALL : Sport.BASKETBALL);
+			// Every fifth match has no odds
+			if (i % 5 != 0) {
+				for (Specifier specifier : Specifier.values()) {
+					MatchOdds odds = new MatchOdds();
+					odds.setSpecifier(specifier);
+					odds.setOdd(1.5 + i + specifier.ordinal());
+					odds.setMatch(match);
+					match.getOdds().add(odds);
+				}
+			}
+			matchRepository.save(match);
+		}
+	}
+
+	@ParameterizedTest
+	@CsvSource(nullValues = "null", value = {"0, 10, matchDate, desc, null, null, null",
+			"1, 7, matchDate, asc, null, null, null", "0, 50, owner, asc, null, football, null",
+			"0, 50, sport, desc, owner1, null, null", "0, 5, matchDate, desc, owner2, basketball, 2031-05-02",
+			"3, 10, matchDate, desc, null, null, null"})
+	void findMatchPage_returnsSameMatchesAsServletListing(int page, int size, String sortBy, String direction,
+			String owner, String sport, LocalDate matchDate) {
+		Page<MatchDTO> expectedPage = matchService
+				.getPaginatedMatches(page, size, sortBy, direction, owner, sport, matchDate, null, null, null)
+				.getValue();
+		List<MatchDTO> expected = expectedPage.getContent();
+
+		MatchFilterKey filter = MatchFilterKey.of(owner, sport, matchDate);
+		List<MatchDTO> actual = matchReader
+				.findMatchPage(filter, PageRequest.of(page, size, MatchSorts.of(sortBy, direction))).collectList()
+				.block();
+
+		assertThat(matchReader.countMatches(filter).block()).isEqualTo(expectedPage.getTotalElements());
+
+		assertThat(actual).usingRecursiveFieldByFieldElementComparatorIgnoringFields("odds")
+				.containsExactlyInAnyOrderElementsOf(expected);
+		if ("matchDate".equals(sortBy)) {
+			assertThat(actual).extracting(MatchDTO::getMatchId)
+					.containsExactlyElementsOf(expected.stream().map(MatchDTO::getMatchId).toList());
+		}
+		for (MatchDTO match : actual) {
+			MatchDTO twin = expected.stream().filter(e -> e.getMatchId().equals(match.getMatchId())).findFirst()
+					.orElseThrow();
+			assertThat(match.getOdds()).usingRecursiveFieldByFieldElementComparator()
+					.containsExactlyInAnyOrderElementsOf(twin.getOdds());
+		}
+	}
+
+	@ParameterizedTest
+	@CsvSource(nullValues = "null", value = {"2031-05-02T12:10, 2031-05-04T12:00", "2031-05-03T00:00, null",
+			"null, 2031-05-02T12:30"})
+	void findMatchPage_appliesKickOffRangeLikeServletListing(LocalDateTime from, LocalDateTime to) {
+		List<MatchDTO> expected = matchService
+				.getPaginatedMatches(0, 50, "matchDate", "asc", null, null, null, from, to, null).getValue()
+				.getContent();
+
+		List<MatchDTO> actual = matchReader.findMatchPage(new MatchFilterKey(null, null, null).withRange(from, to),
+				PageRequest.of(0, 50, MatchSorts.of("matchDate", "asc"))).collectList().block();
+
+		assertThat(expected).isNotEmpty().hasSizeLessThan(30);
+		assertThat(actual).extracting(MatchDTO::getMatchId)
+				.containsExactlyElementsOf(expected.stream().map(MatchDTO::getMatchId).toList());
+	}
+}
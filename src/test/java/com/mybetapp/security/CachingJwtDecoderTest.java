@@ -0,0 +1,63 @@
+package com.mybetapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class CachingJwtDecoderTest {
+
+	private static final Instant NOW = Instant.parse("2025-08-22T12:00:00Z");
+
+	private final AtomicInteger decodes = new AtomicInteger();
+
+	@Test
+	void decode_cachesTokenUntilItExpires() {
+		CachingJwtDecoder decoder = decoder(NOW.plusSeconds(300));
+
+		decoder.decode("a");
+		decoder.decode("a");
+		decoder.decode("b");
+
+		assertThat(decodes).hasValue(2);
+	}
+
+	@Test
+	void decode_doesNotCacheExpiredOrNonExpiringTokens() {
+		CachingJwtDecoder expired = decoder(NOW.minusSeconds(30));
+		CachingJwtDecoder nonExpiring = decoder(null);
+
+		expired.decode("a");
+		expired.decode("a");
+		nonExpiring.decode("a");
+		nonExpiring.decode("a");
+
+		assertThat(decodes).hasValue(4);
+	}
+
+	@Test
+	void decode_doesNotCacheRejectedTokens() {
+		CachingJwtDecoder decoder = new CachingJwtDecoder(token -> {
+			decodes.incrementAndGet();
+			throw new BadJwtException("Invalid signature");
+		}, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+
+		assertThatThrownBy(() -> decoder.decode("a")).isInstanceOf(BadJwtException.class);
+		assertThatThrownBy(() -> decoder.decode("a")).isInstanceOf(BadJwtException.class);
+		assertThat(decodes).hasValue(2);
+	}
+
+	private CachingJwtDecoder decoder(Instant expiresAt) {
+		return new CachingJwtDecoder(token -> {
+			decodes.incrementAndGet();
+			return Jwt.withTokenValue(token).header("alg", "RS256").subject("alice").issuedAt(NOW.minusSeconds(60))
+					.expiresAt(expiresAt).build();
+		}, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+}
@@ -0,0 +1,90 @@
+package com.mybetapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+class JwtDecoderConfigTest {
+
+	private static final String ISSUER = "http://localhost:8188/realms/my-quarkus-app";
+
+	private static RSAKey key;
+
+	@TempDir
+	Path tempDir;
+
+	private final JwtDecoderConfig config = new JwtDecoderConfig();
+	private JWKSource<SecurityContext> jwkSource;
+
+	@BeforeAll
+	static void generateKey() throws JOSEException {
+		key = new RSAKeyGenerator(2048).keyID("test").generate();
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Path jwkSet = tempDir.resolve("certs.json");
+		Files.writeString(jwkSet, new JWKSet(key.toPublicJWK()).toString());
+		jwkSource = config.jwkSource(jwkSet.toUri().toString(), Duration.ofMinutes(15), Duration.ofMinutes(1),
+				new DefaultResourceLoader());
+	}
+
+	@Test
+	void decode_acceptsTokenSignedWithKeyFromLocalJwkSet() throws JOSEException {
+		Jwt jwt = config.jwtDecoder(jwkSource, ISSUER, true, 100).decode(token(ISSUER));
+
+		assertThat(jwt.getClaimAsString("preferred_username")).isEqualTo("alice");
+	}
+
+	@Test
+	void decode_verifiesRepeatedTokenOnce() throws JOSEException {
+		String token = token(ISSUER);
+		JwtDecoder cachingDecoder = config.jwtDecoder(jwkSource, ISSUER, true, 100);
+		JwtDecoder plainDecoder = config.jwtDecoder(jwkSource, ISSUER, false, 100);
+
+		assertThat(cachingDecoder.decode(token)).isSameAs(cachingDecoder.decode(token));
+		assertThat(plainDecoder.decode(token)).isNotSameAs(plainDecoder.decode(token));
+	}
+
+	@Test
+	void decode_keepsRejectingTokenFromOtherIssuer() throws JOSEException {
+		String token = token("http://localhost:8188/realms/other");
+		JwtDecoder decoder = config.jwtDecoder(jwkSource, ISSUER, true, 100);
+
+		assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtValidationException.class);
+		assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtValidationException.class);
+	}
+
+	private static String token(String issuer) throws JOSEException {
+		Instant now = Instant.now();
+		SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+				new JWTClaimsSet.Builder().issuer(issuer).subject("alice").claim("preferred_username", "alice")
+						.issueTime(Date.from(now)).expirationTime(Date.from(now.plus(Duration.ofMinutes(5)))).build());
+		jwt.sign(new RSASSASigner(key));
+		return jwt.serialize();
+	}
+}
@@ -0,0 +1,22 @@
+package com.mybetapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.cors.CorsConfiguration;
+
+class SecurityConfigTest {
+
+	@Test
+	void corsConfiguration_allowsOddsPatchFromFrontend() {
+		MockHttpServletRequest preflight = new MockHttpServletRequest("OPTIONS", "/bet/matches/1/odds");
+
+		CorsConfiguration configuration = new SecurityConfig().corsConfigurationSource()
+				.getCorsConfiguration(preflight);
+
+		assertThat(configuration.checkOrigin("http://localhost:4200")).isEqualTo("http://localhost:4200");
+		assertThat(configuration.checkHttpMethod(HttpMethod.PATCH)).contains(HttpMethod.PATCH);
+	}
+}
@@ -0,0 +1,182 @@
+package com.mybetapp.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybetapp.dto.MatchBatchItemDTO;
+import com.mybetapp.dto.MatchImportProgressDTO;
+import com.mybetapp.dto.MatchImportRejectionDTO;
+import com.mybetapp.enums.BatchItemStatus;
+import com.mybetapp.enums.MatchFileFormat;
+import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.util.Result;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MatchImportServiceImplTest {
+
+	private static final String CSV_HEADER = "description,matchDate,matchTime,teamA,teamB,sport,win,draw,lose";
+
+	private final MatchService matchService = mock(MatchService.class);
+
+	private final List<MatchImportRejectionDTO> rejections = new ArrayList<>();
+
+	private final List<Long> progressCreated = new ArrayList<>();
+
+	// The chunk list is reused between calls, so saved items are recorded as they
+	// arrive
+	private final List<String> savedTeamsA = new ArrayList<>();
+
+	private final MatchImportListener listener = new MatchImportListener() {
+		@Override
+		public void onRejected(MatchImportRejectionDTO rejection) {
+			rejections.add(rejection);
+		}
+
+		@Override
+		public void onProgress(MatchImportProgressDTO progress) {
+			progressCreated.add(progress.getCreated());
+		}
+	};
+
+	@TempDir
+	Path importDirectory;
+
+	@BeforeEach
+	void setUp() {
+		// Every item that reaches the service is created, except those for team DUP
+		when(matchService.saveMatches(anyList())).thenAnswer(invocation -> {
+			List<SaveMatchRequest> requests = invocation.getArgument(0);
+			requests.forEach(request -> savedTeamsA.add(request.getTeamA()));
+			return Result.ok(IntStream.range(0, requests.size()).mapToObj(i -> {
+				MatchBatchItemDTO item = new MatchBatchItemDTO();
+				item.setIndex(i);
+				boolean duplicate = "DUP".equals(requests.get(i).getTeamA());
+				item.setStatus(duplicate ? BatchItemStatus.DUPLICATE : BatchItemStatus.CREATED);
+				item.setErrors(duplicate ? List.of("already exists") : null);
+				return item;
+			}).toList());
+		});
+	}
+
+	@Test
+	void importMatches_csv_savesInChunksAndReportsRejectedLines() {
+		String csv = String.join("\n", CSV_HEADER, "Derby,2025-08-22,20:45,AEK,PAO,FOOTBALL,1.5,3.2,4.8",
+				",2025-08-22,21:00,\"OSFP, Piraeus\",PAOK,football,2.0,3.0,4.0", "",
+				"bad sport,2025-08-22,21:00,ARIS,OFI,CURLING,2.0,3.0,4.0",
+				"bad odd,2025-08-22,21:00,ARIS,OFI,FOOTBALL,2.0,x,4.0",
+				",2025-08-22,21:00,DUP,OFI,FOOTBALL,2.0,3.0,4.0", ",2025-08-23,21:00,LAR,VOL,FOOTBALL,2.0,3.0,4.0");
+
+		Result<MatchImportProgressDTO> result = service(2).importMatches(reader(csv), MatchFileFormat.CSV, listener);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue().getRecords()).isEqualTo(6);
+		assertThat(result.getValue().getCreated()).isEqualTo(3);
+		assertThat(result.getValue().getRejected()).isEqualTo(3);
+		assertThat(rejections).extracting(MatchImportRejectionDTO::getLine).containsExactly(5L, 6L, 7L);
+		assertThat(rejections).extracting(MatchImportRejectionDTO::getStatus).containsExactly(
+				BatchItemStatus.INVALID, BatchItemStatus.INVALID, BatchItemStatus.DUPLICATE);
+		// Two chunks of two and no more
+		assertThat(progressCreated).containsExactly(2L, 3L);
+		verify(matchService, times(2)).saveMatches(anyList());
+	}
+
+	@Test
+	void importMatches_csv_quotedFieldKeepsComma() {
+		String csv = String.join("\n", CSV_HEADER, ",2025-08-22,21:00,\"OSFP, Piraeus\",PAOK,FOOTBALL,2.0,3.0,4.0");
+
+		service(10).importMatches(reader(csv), MatchFileFormat.CSV, listener);
+
+		assertThat(savedTeamsA).containsExactly("OSFP, Piraeus");
+	}
+
+	@Test
+	void importMatches_csv_missingColumnsFailsBeforeSaving() {
+		Result<MatchImportProgressDTO> result = service(10)
+				.importMatches(reader("matchDate,matchTime,teamA\n2025-08-22,20:45,AEK"), MatchFileFormat.CSV, listener);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getError()).contains("Invalid CSV header");
+		verifyNoInteractions(matchService);
+	}
+
+	@Test
+	void importMatches_ndjson_rejectsMalformedLine() {
+		String ndjson = String.join("\n",
+				"{\"matchDate\":\"2025-08-22\",\"matchTime\":\"20:45\",\"teamA\":\"AEK\",\"teamB\":\"PAO\","
+						+ "\"sport\":\"FOOTBALL\",\"odds\":[{\"specifier\":\"WIN\",\"odd\":1.5}]}",
+				"{not json");
+
+		Result<MatchImportProgressDTO> result = service(10).importMatches(reader(ndjson), MatchFileFormat.NDJSON,
+				listener);
+
+		assertThat(result.getValue().getCreated()).isEqualTo(1);
+		assertThat(rejections).singleElement().satisfies(rejection -> {
+			assertThat(rejection.getLine()).isEqualTo(2);
+			assertThat(rejection.getErrors().get(0)).startsWith("Malformed JSON");
+		});
+	}
+
+	@Test
+	void importFile_readsFromImportDirectory() throws Exception {
+		Files.writeString(importDirectory.resolve("fixtures.csv"),
+				CSV_HEADER + "\n,2025-08-22,20:45,AEK,PAO,FOOTBALL,1.5,3.2,4.8\n");
+
+		Result<MatchImportProgressDTO> result = service(10).importFile("fixtures.csv", listener);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue().getCreated()).isEqualTo(1);
+	}
+
+	@Test
+	void importFile_rejectsPathOutsideImportDirectory() throws Exception {
+		Path outside = Files.createTempFile("outside", ".csv");
+		try {
+			Result<MatchImportProgressDTO> result = service(10)
+					.importFile("../" + outside.getParent().relativize(outside), listener);
+
+			assertThat(result.getError()).startsWith("Invalid import path");
+			verifyNoInteractions(matchService);
+		} finally {
+			Files.delete(outside);
+		}
+	}
+
+	@Test
+	void importFile_missingPathOutsideImportDirectoryIsRejectedLikeExistingOne() {
+		Result<MatchImportProgressDTO> result = service(10).importFile("../does-not-exist.csv", listener);
+
+		assertThat(result.getError()).isEqualTo("Invalid import path: ../does-not-exist.csv");
+		verifyNoInteractions(matchService);
+	}
+
+	@Test
+	void importFile_disabledWithoutDirectory() {
+		MatchImportServiceImpl service = new MatchImportServiceImpl(matchService, new ObjectMapper(), 10, "",
+				mock(EntityManager.class));
+
+		Result<MatchImportProgressDTO> result = service.importFile("fixtures.csv", listener);
+
+		assertThat(result.getError()).containsIgnoringCase("disabled");
+	}
+
+	private MatchImportServiceImpl service(int chunkSize) {
+		return new MatchImportServiceImpl(matchService, new ObjectMapper(), chunkSize, importDirectory.toString(),
+				mock(EntityManager.class));
+	}
+
+	private BufferedReader reader(String content) {
+		return new BufferedReader(new StringReader(content));
+	}
+}
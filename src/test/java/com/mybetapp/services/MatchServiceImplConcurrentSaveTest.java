@@ -0,0 +1,130 @@
+package com.mybetapp.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.mybetapp.cache.MatchCountCache;
+import com.mybetapp.cache.MatchPageCache;
+import com.mybetapp.dto.MatchBatchItemDTO;
+import com.mybetapp.entities.Match;
+import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.BatchItemStatus;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.repositories.MatchRepository;
+import com.mybetapp.util.Result;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * Races a batch save against a concurrent save of one of its matches, with each
+ * side committing in its own transaction as they would in production.
+ */
+@DataJpaTest(properties = {"mybetapp.matches.page-cache.enabled=false",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@Import({MatchServiceImpl.class, MatchCountCache.class, MatchPageCache.class, LocalValidatorFactoryBean.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MatchServiceImplConcurrentSaveTest {
+
+	@Autowired
+	private MatchServiceImpl matchService;
+
+	@MockitoSpyBean
+	private MatchRepository matchRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		matchRepository.deleteAll();
+	}
+
+	@Test
+	void saveMatches_matchSavedConcurrentlyIsMarkedDuplicateAndRestIsRetried() {
+		Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").claim("preferred_username", "owner0").build();
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(jwt, null));
+
+		// The other request commits the first match right after this batch's duplicate
+		// check has missed it
+		TransactionTemplate concurrentRequest = new TransactionTemplate(transactionManager);
+		concurrentRequest.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		// A spied repository proxy delegates to the real one through its default answer
+		Answer<?> repository = mockingDetails(matchRepository).getMockCreationSettings().getDefaultAnswer();
+		doAnswer(invocation -> {
+			Object existing = repository.answer(invocation);
+			concurrentRequest.executeWithoutResult(status -> matchRepository.save(match("TEAM A1", "TEAM B1")));
+			return existing;
+		}).doAnswer(repository).when(matchRepository).findExistingIdentities(any());
+
+		Result<List<MatchBatchItemDTO>> result = matchService
+				.saveMatches(List.of(saveRequest("TEAM A1", "TEAM B1"), saveRequest("TEAM A2", "TEAM B2")));
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue()).extracting(MatchBatchItemDTO::getStatus)
+				.containsExactly(BatchItemStatus.DUPLICATE, BatchItemStatus.CREATED);
+		assertThat(result.getValue().get(1).getMatchId()).isNotNull();
+		verify(matchRepository, times(2)).findExistingIdentities(any());
+		assertThat(matchRepository.findAll()).extracting(Match::getTeamA).containsExactlyInAnyOrder("TEAM A1",
+				"TEAM A2");
+	}
+
+	private static SaveMatchRequest saveRequest(String teamA, String teamB) {
+		SaveMatchRequest request = new SaveMatchRequest();
+		request.setMatchDate("2025-04-11");
+		request.setMatchTime("18:00");
+		request.setTeamA(teamA);
+		request.setTeamB(teamB);
+		request.setSport(Sport.FOOTBALL);
+		request.setOdds(Arrays.stream(Specifier.values()).map(specifier -> {
+			com.mybetapp.models.MatchOdds odd = new com.mybetapp.models.MatchOdds();
+			odd.setSpecifier(specifier);
+			odd.setOdd(1.5);
+			return odd;
+		}).toList());
+		return request;
+	}
+
+	private static Match match(String teamA, String teamB) {
+		Match match = new Match();
+		match.setOwner("owner1");
+		match.setDescription("MATCH");
+		match.setMatchDate(LocalDate.of(2025, 4, 11));
+		match.setMatchTime(LocalTime.of(18, 0));
+		match.setTeamA(teamA);
+		match.setTeamB(teamB);
+		match.setSport(Sport.FOOTBALL);
+		for (Specifier specifier : Specifier.values()) {
+			MatchOdds odd = new MatchOdds();
+			odd.setSpecifier(specifier);
+			odd.setOdd(1.5);
+			odd.setMatch(match);
+			match.getOdds().add(odd);
+		}
+		return match;
+	}
+}
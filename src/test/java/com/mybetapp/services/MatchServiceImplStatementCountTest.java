@@ -0,0 +1,481 @@
+package com.mybetapp.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybetapp.cache.MatchCountCache;
+import com.mybetapp.cache.MatchPageCache;
+import com.mybetapp.dto.MatchBatchItemDTO;
+import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchImportProgressDTO;
+import com.mybetapp.dto.MatchImportRejectionDTO;
+import com.mybetapp.dto.MatchOddsDTO;
+import com.mybetapp.dto.MatchScrollDTO;
+import com.mybetapp.dto.MatchSliceDTO;
+import com.mybetapp.entities.Match;
+import com.mybetapp.entities.MatchOdds;
+import com.mybetapp.enums.BatchItemStatus;
+import com.mybetapp.enums.MatchFileFormat;
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.enums.Sport;
+import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.models.UpdateOddsRequest;
+import com.mybetapp.util.Result;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FlushModeType;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+@DataJpaTest(properties = {"mybetapp.matches.page-cache.enabled=false",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import({MatchServiceImpl.class, MatchCountCache.class, MatchPageCache.class, LocalValidatorFactoryBean.class})
+class MatchServiceImplStatementCountTest {
+
+	private static final int STORED_MATCHES = 60;
+
+	@Autowired
+	private MatchServiceImpl matchService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < STORED_MATCHES; i++) {
+			entityManager.persist(createMatch(i));
+		}
+
+		// Start every test with an empty persistence context so odds have to come from
+		// the database
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 10, 50})
+	void getPaginatedMatches_usesFixedNumberOfStatementsRegardlessOfPageSize(int size) {
+		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(0, size, "matchDate", "desc", null, null,
+				null, null, null, null);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue().getContent()).hasSize(size).allSatisfy(dto -> assertThat(dto.getOdds())
+				.extracting(com.mybetapp.models.MatchOdds::getSpecifier)
+				.containsExactlyInAnyOrder(Specifier.WIN, Specifier.DRAW, Specifier.LOSE));
+
+		// page query + count query + one odds query for the whole page
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+		// rows are projected straight into DTOs, nothing enters the persistence context
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void getPaginatedMatches_emptyPageSkipsOddsQuery() {
+		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(0, 10, "matchDate", "desc", "nobody", null,
+				null, null, null, null);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue().getContent()).isEmpty();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void getMatchSlice_skipsCountQuery() {
+		Result<MatchSliceDTO> result = matchService.getMatchSlice(1, 10, "matchDate", "asc", null, null, null);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue().isHasNext()).isTrue();
+		assertThat(result.getValue().getContent()).hasSize(10).extracting(MatchDTO::getMatchDate)
+				.isSorted();
+		// slice query + one odds query
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void getMatchSlice_lastSliceHasNoNext() {
+		Result<MatchSliceDTO> result = matchService.getMatchSlice(5, 12, "matchDate", "asc", null, null, null);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue().isHasNext()).isFalse();
+		assertThat(result.getValue().getContent()).hasSize(STORED_MATCHES - 5 * 12);
+	}
+
+	@Test
+	void getMatchSchedule_returnsWholeDayForSport() {
+		Result<List<MatchDTO>> result = matchService.getMatchSchedule(LocalDate.of(2025, 1, 3), "football",
+				"matchDate", "asc");
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue()).singleElement().satisfies(dto -> {
+			assertThat(dto.getTeamA()).isEqualTo("TEAM A2");
+			assertThat(dto.getOdds()).hasSize(3);
+		});
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 3})
+	void updateMatch_writesOnlyChangedOdds(int changedOdds) {
+		Long matchId = entityManager
+				.createQuery("select m.id from Match m where m.description = 'MATCH 0'", Long.class)
+				.getSingleResult();
+		statistics.clear();
+
+		authenticateAs("owner0");
+
+		SaveMatchRequest request = saveRequest("2025-01-01", "team a0", "team b0",
+				specifier -> specifier.ordinal() < changedOdds ? 2.75 : 1.5);
+		request.setDescription("Match 0");
+
+		assertThat(matchService.updateMatch(matchId, request).isSuccess()).isTrue();
+		entityManager.flush();
+
+		// match select + odds select + the changed odds as one batched UPDATE and the
+		// version bump; no DELETE/INSERT churn
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2 + 2 * Math.min(changedOdds, 1));
+		assertThat(statistics.getEntityInsertCount()).isZero();
+		assertThat(statistics.getEntityDeleteCount()).isZero();
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(changedOdds);
+		assertThat(entityManager.find(Match.class, matchId).getVersion()).isEqualTo((long) Math.min(changedOdds, 1));
+	}
+
+	@Test
+	void updateMatch_oddsOnlyChangeRejectsPatchWithPreviousVersion() {
+		Long matchId = entityManager
+				.createQuery("select m.id from Match m where m.description = 'MATCH 0'", Long.class)
+				.getSingleResult();
+
+		authenticateAs("owner0");
+
+		SaveMatchRequest request = saveRequest("2025-01-01", "team a0", "team b0", specifier -> 2.75);
+		request.setDescription("Match 0");
+
+		UpdateOddsRequest patch = new UpdateOddsRequest();
+		patch.setVersion(0L);
+		patch.setOdds(request.getOdds());
+
+		Result<MatchDTO> put = matchService.updateMatch(matchId, request);
+		Result<MatchOddsDTO> stalePatch = matchService.updateMatchOdds(matchId, patch);
+
+		assertThat(put.getValue().getVersion()).isEqualTo(1L);
+		assertThat(stalePatch.getError()).startsWith("CONFLICT");
+	}
+
+	@Test
+	void updateMatchOdds_updatesWithTwoStatementsAndBumpsVersion() {
+		Long matchId = entityManager
+				.createQuery("select m.id from Match m where m.description = 'MATCH 0'", Long.class)
+				.getSingleResult();
+		statistics.clear();
+
+		authenticateAs("owner0");
+
+		UpdateOddsRequest request = new UpdateOddsRequest();
+		request.setVersion(0L);
+		request.setOdds(odds(specifier -> 2.0 + specifier.ordinal()));
+
+		Result<MatchOddsDTO> first = matchService.updateMatchOdds(matchId, request);
+		// Versioned UPDATE + odds UPDATE, no SELECT
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+		Result<MatchOddsDTO> replayed = matchService.updateMatchOdds(matchId, request);
+
+		assertThat(first.isSuccess()).isTrue();
+		assertThat(first.getValue().getVersion()).isEqualTo(1L);
+		assertThat(replayed.getError()).containsIgnoringCase("conflict");
+
+		entityManager.clear();
+		Match match = entityManager.find(Match.class, matchId);
+		assertThat(match.getVersion()).isEqualTo(1L);
+		assertThat(match.getOdds()).extracting(MatchOdds::getSpecifier, MatchOdds::getOdd).containsExactlyInAnyOrder(
+				tuple(Specifier.WIN, 2.0), tuple(Specifier.DRAW, 3.0), tuple(Specifier.LOSE, 4.0));
+	}
+
+	@Test
+	void saveMatches_batchesInserts() {
+		authenticateAs("owner0");
+
+		List<SaveMatchRequest> requests = new java.util.ArrayList<>();
+		// The first item duplicates a stored match
+		requests.add(saveRequest("2025-01-01", "TEAM A0", "TEAM B0"));
+		for (int i = 1; i < 40; i++) {
+			requests.add(saveRequest("2026-01-01", "NEW A" + i, "NEW B" + i));
+		}
+
+		Result<List<MatchBatchItemDTO>> result = matchService.saveMatches(requests);
+		entityManager.flush();
+
+		assertThat(result.getValue()).extracting(MatchBatchItemDTO::getStatus).containsOnlyOnce(
+				BatchItemStatus.DUPLICATE);
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(39 * 4);
+		// Duplicate check + a few pooled sequence calls + one batched INSERT per table,
+		// instead of an exists check and four INSERTs per match
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	void saveMatches_fixtureSavedAfterDuplicateCheckInCallerTransactionIsReportedAsConflict() {
+		authenticateAs("owner0");
+
+		// Stands in for a concurrent request: the match is only written when the batch
+		// flushes, after the duplicate check has already missed it. The batch joins the
+		// test's transaction, which the failed INSERT dooms, so it cannot be retried
+		entityManager.setFlushMode(FlushModeType.COMMIT);
+		entityManager.persist(createMatch(100));
+
+		Result<List<MatchBatchItemDTO>> result = matchService
+				.saveMatches(List.of(saveRequest("2025-04-11", "TEAM A100", "TEAM B100")));
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getError()).contains("already exists");
+	}
+
+	@Test
+	void saveMatch_duplicateIsRejectedByConstraintWithoutLookup() {
+		authenticateAs("owner0");
+
+		// Same fixture as the stored MATCH 0
+		Result<MatchDTO> result = matchService.saveMatch(saveRequest("2025-01-01", "TEAM A0", "TEAM B0"));
+
+		assertThat(result.getError()).isEqualTo("FOOTBALL match between TEAM A0 and TEAM B0 at 2025-01-01 18:00 "
+				+ "already exists");
+		// Pooled sequence call + the rejected INSERT, no exists query
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void importMatches_detachesEachSavedChunk() {
+		authenticateAs("owner0");
+
+		StringBuilder csv = new StringBuilder("matchDate,matchTime,teamA,teamB,sport,win,draw,lose\n");
+		for (int i = 0; i < 35; i++) {
+			csv.append("2026-02-01,18:00,IMPORT A").append(i).append(",IMPORT B").append(i)
+					.append(",FOOTBALL,1.5,3.2,4.8\n");
+		}
+		List<Integer> managedAfterChunk = new java.util.ArrayList<>();
+		MatchImportService importService = new MatchImportServiceImpl(matchService, new ObjectMapper(), 10, "",
+				entityManager);
+
+		Result<MatchImportProgressDTO> result = importService.importMatches(
+				new BufferedReader(new StringReader(csv.toString())), MatchFileFormat.CSV, new MatchImportListener() {
+					@Override
+					public void onRejected(MatchImportRejectionDTO rejection) {
+					}
+
+					@Override
+					public void onProgress(MatchImportProgressDTO progress) {
+						managedAfterChunk.add(entityManager.unwrap(SessionImplementor.class)
+								.getPersistenceContextInternal().getNumberOfManagedEntities());
+					}
+				});
+
+		assertThat(result.getValue().getCreated()).isEqualTo(35);
+		assertThat(managedAfterChunk).containsExactly(0, 0, 0, 0);
+		assertThat(entityManager.createQuery("select count(m) from Match m", Long.class).getSingleResult())
+				.isEqualTo(STORED_MATCHES + 35L);
+	}
+
+	@Test
+	void exportMatches_streamsEveryMatchWithOddsInOneStatement() {
+		List<MatchDTO> exported = new java.util.ArrayList<>();
+
+		Result<Long> result = matchService.exportMatches(null, null, null, exported::add);
+
+		assertThat(result.getValue()).isEqualTo(STORED_MATCHES);
+		assertThat(exported).hasSize(STORED_MATCHES).allSatisfy(match -> assertThat(match.getOdds()).hasSize(3));
+		assertThat(exported).extracting(MatchDTO::getMatchId).isSorted().doesNotHaveDuplicates();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void exportMatches_appliesListingFilters() {
+		List<MatchDTO> exported = new java.util.ArrayList<>();
+
+		matchService.exportMatches("owner1", "football", null, exported::add);
+
+		assertThat(exported).hasSize(STORED_MATCHES / 3).extracting(MatchDTO::getMatchOwner).containsOnly("owner1");
+	}
+
+	@Test
+	void exportMatches_normalizesOwnerLikeListing() {
+		List<MatchDTO> exported = new java.util.ArrayList<>();
+
+		matchService.exportMatches(" Owner1 ", null, null, exported::add);
+
+		List<MatchDTO> listed = matchService.getPaginatedMatches(0, STORED_MATCHES, "matchDate", "desc", " Owner1 ",
+				null, null, null, null, null).getValue().getContent();
+		assertThat(exported).hasSize(STORED_MATCHES / 3).extracting(MatchDTO::getMatchId)
+				.containsExactlyInAnyOrderElementsOf(listed.stream().map(MatchDTO::getMatchId).toList());
+	}
+
+	@Test
+	void scrollMatches_walksAllMatchesWithTwoStatementsPerPage() {
+		Set<Long> seenIds = new HashSet<>();
+		LocalDate previousDate = LocalDate.MAX;
+		String cursor = null;
+		int pages = 0;
+
+		do {
+			statistics.clear();
+
+			Result<MatchScrollDTO> result = matchService.scrollMatches(7, "matchDate", "desc", null, null, null,
+					cursor);
+
+			assertThat(result.isSuccess()).isTrue();
+			// keyset window query + one odds query, no count and no offset scan
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+			for (MatchDTO dto : result.getValue().getContent()) {
+				assertThat(seenIds.add(dto.getMatchId())).isTrue();
+				assertThat(dto.getMatchDate()).isBefore(previousDate);
+				previousDate = dto.getMatchDate();
+			}
+
+			cursor = result.getValue().getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertThat(seenIds).hasSize(STORED_MATCHES);
+		assertThat(pages).isEqualTo((STORED_MATCHES + 6) / 7);
+	}
+
+	@ParameterizedTest
+	@CsvSource({"owner,asc,", "owner,desc,", "sport,asc,", "sport,desc,owner1", "matchDate,asc,owner2"})
+	void scrollMatches_walksEveryOrderingInKeysetOrder(String sortBy, String direction, String owner) {
+		String keyset = "m." + sortBy + " " + direction + ", " + (sortBy.equals("matchDate") ? "" : "m.matchDate "
+				+ direction + ", ") + "m.matchTime " + direction + ", m.id " + direction;
+		List<Long> expected = entityManager.createQuery("select m.id from Match m"
+				+ (owner == null ? "" : " where m.owner = '" + owner + "'") + " order by " + keyset, Long.class)
+				.getResultList();
+
+		List<Long> walked = new java.util.ArrayList<>();
+		String cursor = null;
+		do {
+			MatchScrollDTO page = matchService.scrollMatches(7, sortBy, direction, owner, null, null, cursor)
+					.getValue();
+			page.getContent().forEach(dto -> walked.add(dto.getMatchId()));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(walked).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	void scrollMatches_rejectsCursorIssuedForAnotherSort() {
+		String cursor = matchService.scrollMatches(5, "matchDate", "desc", null, null, null, null).getValue()
+				.getNextCursor();
+
+		Result<MatchScrollDTO> result = matchService.scrollMatches(5, "owner", "desc", null, null, null, cursor);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getError()).isEqualTo("Invalid cursor: it was issued for a different sort order");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			// Not Base64
+			"not a cursor!",
+			// matchDate=2025-01-01&matchTime=18:00, cut before the id tie-breaker
+			"bWF0Y2hEYXRlPTIwMjUtMDEtMDEmbWF0Y2hUaW1lPTE4OjAw",
+			// matchDate=2025-13-01&matchTime=18:00&id=1
+			"bWF0Y2hEYXRlPTIwMjUtMTMtMDEmbWF0Y2hUaW1lPTE4OjAwJmlkPTE",
+			// Base64 of arbitrary text
+			"aGVsbG8gd29ybGQ"})
+	void scrollMatches_rejectsMalformedCursorAsInvalid(String cursor) {
+		Result<MatchScrollDTO> result = matchService.scrollMatches(5, "matchDate", "desc", null, null, null, cursor);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getError()).isEqualTo("Invalid cursor: it is malformed or truncated");
+	}
+
+	private static void authenticateAs(String owner) {
+		Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").claim("preferred_username", owner).build();
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(jwt, null));
+	}
+
+	private static SaveMatchRequest saveRequest(String matchDate, String teamA, String teamB) {
+		return saveRequest(matchDate, teamA, teamB, specifier -> 1.5);
+	}
+
+	private static SaveMatchRequest saveRequest(String matchDate, String teamA, String teamB,
+			ToDoubleFunction<Specifier> odd) {
+		SaveMatchRequest request = new SaveMatchRequest();
+		request.setMatchDate(matchDate);
+		request.setMatchTime("18:00");
+		request.setTeamA(teamA);
+		request.setTeamB(teamB);
+		request.setSport(Sport.FOOTBALL);
+		request.setOdds(odds(odd));
+		return request;
+	}
+
+	private static List<com.mybetapp.models.MatchOdds> odds(ToDoubleFunction<Specifier> odd) {
+		return Arrays.stream(Specifier.values()).map(specifier -> {
+			com.mybetapp.models.MatchOdds odds = new com.mybetapp.models.MatchOdds();
+			odds.setSpecifier(specifier);
+			odds.setOdd(odd.applyAsDouble(specifier));
+			return odds;
+		}).toList();
+	}
+
+	private Match createMatch(int index) {
+		Match match = new Match();
+		match.setOwner("owner" + (index % 3));
+		match.setDescription("MATCH " + index);
+		match.setMatchDate(LocalDate.of(2025, 1, 1).plusDays(index));
+		match.setMatchTime(LocalTime.of(18, 0));
+		match.setTeamA("TEAM A" + index);
+		match.setTeamB("TEAM B" + index);
+		match.setSport(Sport.FOOTBALL);
+
+		for (Specifier specifier : Specifier.values()) {
+			MatchOdds odd = new MatchOdds();
+			odd.setSpecifier(specifier);
+			odd.setOdd(1.5);
+			odd.setMatch(match);
+			match.getOdds().add(odd);
+		}
+
+		return match;
+	}
+}
@@ -0,0 +1,72 @@
+package com.mybetapp.validations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mybetapp.enums.Specifier;
+import com.mybetapp.models.MatchOdds;
+import com.mybetapp.models.UpdateOddsRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class MatchOddsConstraintValidatorTest {
+
+	private static ValidatorFactory validatorFactory;
+	private static Validator validator;
+
+	@BeforeAll
+	static void setUp() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+	}
+
+	@AfterAll
+	static void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Test
+	void acceptsOneOfEachSpecifierInAnyOrder() {
+		assertThat(violations(Specifier.LOSE, Specifier.WIN, Specifier.DRAW)).isEmpty();
+	}
+
+	@Test
+	void rejectsWrongNumberOfOdds() {
+		assertThat(violations(Specifier.WIN, Specifier.DRAW)).containsExactly("Odds list must contain exactly 3 items");
+	}
+
+	@Test
+	void reportsFirstMissingOrRepeatedSpecifier() {
+		assertThat(violations(Specifier.WIN, Specifier.WIN, Specifier.LOSE))
+				.containsExactly("Must have exactly one 'WIN' specifier");
+		assertThat(violations(Specifier.WIN, Specifier.LOSE, Specifier.LOSE))
+				.containsExactly("Must have exactly one 'DRAW' specifier");
+	}
+
+	@Test
+	void leavesMissingSpecifierToNotNull() {
+		assertThat(violations(Specifier.WIN, Specifier.DRAW, null)).containsExactlyInAnyOrder("Specifier is required",
+				"Must have exactly one 'LOSE' specifier");
+	}
+
+	private static List<String> violations(Specifier... specifiers) {
+		List<MatchOdds> odds = new ArrayList<>();
+		for (Specifier specifier : specifiers) {
+			MatchOdds matchOdds = new MatchOdds();
+			matchOdds.setSpecifier(specifier);
+			matchOdds.setOdd(2.0);
+			odds.add(matchOdds);
+		}
+
+		UpdateOddsRequest request = new UpdateOddsRequest();
+		request.setVersion(1L);
+		request.setOdds(odds);
+		return validator.validate(request).stream().map(ConstraintViolation::getMessage).toList();
+	}
+}
@@ -1,41 +1,74 @@
 package services;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
+import com.mybetapp.cache.MatchCountCache;
+import com.mybetapp.cache.MatchPageCache;
+import com.mybetapp.cache.MatchPageKey;
+import com.mybetapp.dto.MatchBatchItemDTO;
 import com.mybetapp.dto.MatchDTO;
+import com.mybetapp.dto.MatchOddsDTO;
 import com.mybetapp.entities.Match;
+import com.mybetapp.enums.BatchItemStatus;
 import com.mybetapp.enums.Specifier;
 import com.mybetapp.enums.Sport;
+import com.mybetapp.events.MatchChangedEvent;
 import com.mybetapp.models.MatchOdds;
 import com.mybetapp.models.SaveMatchRequest;
+import com.mybetapp.models.UpdateOddsRequest;
 import com.mybetapp.repositories.MatchRepository;
 import com.mybetapp.services.MatchServiceImpl;
+import com.mybetapp.util.MatchFilterKey;
+import com.mybetapp.util.MatchIdentity;
 import com.mybetapp.util.Result;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.transaction.PlatformTransactionManager;
 
 public class MatchServiceImplTest {
 
 	@Mock
 	private MatchRepository matchRepository;
 
+	@Mock
+	private MatchCountCache matchCountCache;
+
+	@Mock
+	private MatchPageCache matchPageCache;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private Validator validator;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	@InjectMocks
 	private MatchServiceImpl matchService; // your service implementation class
 
@@ -72,10 +105,7 @@ public class MatchServiceImplTest {
 		// Mock helper methods if needed
 		MatchServiceImpl spyService = Mockito.spy(matchService);
 
-		when(matchRepository.existsByTeamAAndTeamBAndMatchDateAndMatchTimeAndSport(anyString(), anyString(),
-				any(LocalDate.class), any(LocalTime.class), any(Sport.class))).thenReturn(false);
-
-		when(matchRepository.save(any(Match.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(matchRepository.saveAndFlush(any(Match.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
 		Result<MatchDTO> result = spyService.saveMatch(request);
@@ -83,6 +113,9 @@ public class MatchServiceImplTest {
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
 		assertThat(result.getValue()).isNotNull();
+		// Duplicates are left to the fixture constraint, so the INSERT is the only round trip
+		verify(matchRepository).saveAndFlush(any(Match.class));
+		verifyNoMoreInteractions(matchRepository);
 	}
 
 	@Test
@@ -188,52 +221,47 @@ public class MatchServiceImplTest {
 	void deleteMatch_successfulDeletion() {
 		Long matchId = 1L;
 		String currentUser = "user1";
-
-		Match match = new Match();
-		match.setId(matchId);
-		match.setOwner(currentUser);
+		MatchFilterKey deletedKey = new MatchFilterKey(currentUser, Sport.FOOTBALL, LocalDate.of(2025, 8, 22));
 
 		mockSecurityContextWithUsername(currentUser);
 
-		when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
-		doNothing().when(matchRepository).delete(match);
+		when(matchRepository.deleteByIdAndOwner(matchId, currentUser)).thenReturn(Optional.of(deletedKey));
 
 		Result<Void> result = matchService.deleteMatch(matchId);
 
 		assertThat(result.isSuccess()).isTrue();
-		verify(matchRepository).delete(match);
+		verify(matchRepository).deleteByIdAndOwner(matchId, currentUser);
+		verify(matchRepository, never()).findById(any());
+		verify(eventPublisher).publishEvent(new MatchChangedEvent(matchId, List.of(deletedKey)));
 	}
 
 	@Test
 	void deleteMatch_matchNotFound() {
 		Long matchId = 42L;
 
-		when(matchRepository.findById(matchId)).thenReturn(Optional.empty());
+		mockSecurityContextWithUsername("user1");
+
+		when(matchRepository.deleteByIdAndOwner(matchId, "user1")).thenReturn(Optional.empty());
+		when(matchRepository.existsById(matchId)).thenReturn(false);
 
 		Result<Void> result = matchService.deleteMatch(matchId);
 
 		assertThat(result.isSuccess()).isFalse();
 		assertThat(result.getError()).containsIgnoringCase("not_found");
-		verify(matchRepository, never()).delete(any(Specification.class));
+		verifyNoInteractions(eventPublisher);
 	}
 
 	@Test
 	void deleteMatch_unauthorized_noUserInContext() {
 		Long matchId = 1L;
 
-		Match match = new Match();
-		match.setId(matchId);
-		match.setOwner("user1");
-
-		when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
-
 		SecurityContextHolder.clearContext(); // No user in context
 
 		Result<Void> result = matchService.deleteMatch(matchId);
 
 		assertThat(result.isSuccess()).isFalse();
 		assertThat(result.getError()).containsIgnoringCase("unauthorized");
-		verify(matchRepository, never()).delete(any(Specification.class));
+		verify(matchRepository, never()).deleteByIdAndOwner(any(), any());
 	}
 
 	@Test
@@ -241,19 +269,16 @@ public class MatchServiceImplTest {
 		Long matchId = 1L;
 		String currentUser = "user2"; // Different from owner
 
-		Match match = new Match();
-		match.setId(matchId);
-		match.setOwner("user1");
-
 		mockSecurityContextWithUsername(currentUser);
 
-		when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+		when(matchRepository.deleteByIdAndOwner(matchId, currentUser)).thenReturn(Optional.empty());
+		when(matchRepository.existsById(matchId)).thenReturn(true);
 
 		Result<Void> result = matchService.deleteMatch(matchId);
 
 		assertThat(result.isSuccess()).isFalse();
 		assertThat(result.getError()).containsIgnoringCase("do not have permission");
-		verify(matchRepository, never()).delete(any(Specification.class));
+		verifyNoInteractions(eventPublisher);
 	}
 
 	@Test
@@ -261,20 +286,15 @@ public class MatchServiceImplTest {
 		Long matchId = 1L;
 		String currentUser = "user1";
 
-		Match match = new Match();
-		match.setId(matchId);
-		match.setOwner(currentUser);
-
 		mockSecurityContextWithUsername(currentUser);
 
-		when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
-		doThrow(new RuntimeException("DB error")).when(matchRepository).delete(match);
+		when(matchRepository.deleteByIdAndOwner(matchId, currentUser)).thenThrow(new RuntimeException("DB error"));
 
 		Result<Void> result = matchService.deleteMatch(matchId);
 
 		assertThat(result.isSuccess()).isFalse();
 		assertThat(result.getError()).containsIgnoringCase("internal_error");
-		verify(matchRepository).delete(match);
+		verify(matchRepository).deleteByIdAndOwner(matchId, currentUser);
 	}
 
 	@Test
@@ -292,11 +312,12 @@ public class MatchServiceImplTest {
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.asc("owner")));
 		Page<Match> matchPage = new PageImpl<>(matches, pageable, matches.size());
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(matchPage);
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(matchPage.map(this::toMatchDTO));
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, null, null,
-				null);
+				null, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -320,11 +341,12 @@ public class MatchServiceImplTest {
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.asc("sport")));
 		Page<Match> matchPage = new PageImpl<>(matches, pageable, matches.size());
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(matchPage);
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(matchPage.map(this::toMatchDTO));
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, null, null,
-				null);
+				null, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -349,11 +371,12 @@ public class MatchServiceImplTest {
 		Pageable pageable = PageRequest.of(page, size, sort);
 		Page<Match> matchPage = new PageImpl<>(matches, pageable, matches.size());
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(matchPage);
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(matchPage.map(this::toMatchDTO));
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, null, null,
-				null);
+				null, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -368,7 +391,8 @@ public class MatchServiceImplTest {
 	void getMatchesPaginated_handlesException() {
 		when(matchRepository.findAll(any(Pageable.class))).thenThrow(new RuntimeException("DB down"));
 
-		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(0, 10, "sport", "desc", null, null, null);
+		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(0, 10, "sport", "desc", null, null, null, null,
+				null, null);
 
 		assertThat(result.isSuccess()).isFalse();
 		assertThat(result.getError()).containsIgnoringCase("failed to fetch paginated matches");
@@ -387,11 +411,12 @@ public class MatchServiceImplTest {
 		List<Match> matches = List.of(match);
 		Page<Match> matchPage = new PageImpl<>(matches);
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(matchPage);
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(matchPage.map(this::toMatchDTO));
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, owner, null,
-				null);
+				null, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -413,11 +438,12 @@ public class MatchServiceImplTest {
 		List<Match> matches = List.of(match);
 		Page<Match> matchPage = new PageImpl<>(matches);
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(matchPage);
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(matchPage.map(this::toMatchDTO));
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, null, sport,
-				null);
+				null, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -439,11 +465,12 @@ public class MatchServiceImplTest {
 		List<Match> matches = List.of(match);
 		Page<Match> matchPage = new PageImpl<>(matches);
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(matchPage);
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(matchPage.map(this::toMatchDTO));
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, null, null,
-				targetDate);
+				targetDate, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -468,11 +495,12 @@ public class MatchServiceImplTest {
 		List<Match> matches = List.of(match);
 		Page<Match> matchPage = new PageImpl<>(matches);
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(matchPage);
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(matchPage.map(this::toMatchDTO));
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, owner, sport,
-				null);
+				null, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -496,11 +524,12 @@ public class MatchServiceImplTest {
 		List<Match> matches = List.of(match);
 		Page<Match> matchPage = new PageImpl<>(matches);
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(matchPage);
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(matchPage.map(this::toMatchDTO));
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, null, sport,
-				matchDate);
+				matchDate, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -525,11 +554,12 @@ public class MatchServiceImplTest {
 		List<Match> matches = List.of(match);
 		Page<Match> matchPage = new PageImpl<>(matches);
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(matchPage);
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(matchPage.map(this::toMatchDTO));
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, owner, sport,
-				matchDate);
+				matchDate, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -550,11 +580,11 @@ public class MatchServiceImplTest {
 		String sport = "BASKETBALL";
 		LocalDate matchDate = LocalDate.of(2024, 1, 1);
 
-		when(matchRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class))).thenReturn(Page.empty());
 
 		// Act
 		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(page, size, sortBy, direction, owner, sport,
-				matchDate);
+				matchDate, null, null, null);
 
 		// Assert
 		assertThat(result.isSuccess()).isTrue();
@@ -562,6 +592,208 @@ public class MatchServiceImplTest {
 		org.assertj.core.api.Assertions.assertThat(result.getValue().getContent()).isEmpty();
 	}
 
+	@Test
+	void getMatchesPaginated_cachedTotals_skipsCountQuery() {
+		Match match = createMatch(1L, "alice", Sport.BASKETBALL, LocalDate.now(), LocalTime.NOON);
+		Pageable pageable = PageRequest.of(0, 1);
+
+		when(matchCountCache.isEnabled()).thenReturn(true);
+		when(matchRepository.findMatchDTOSlice(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(new SliceImpl<>(List.of(toMatchDTO(match)), pageable, true));
+		when(matchCountCache.getTotal(any(MatchFilterKey.class), any())).thenReturn(42L);
+
+		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(0, 1, "matchDate", "desc", "alice", null,
+				null, null, null, null);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue().getTotalElements()).isEqualTo(42);
+		verify(matchCountCache).getTotal(eq(new MatchFilterKey("alice", null, null)), any());
+		verify(matchRepository, never()).findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class));
+		verify(matchRepository, never()).countMatches(any(MatchFilterKey.class));
+	}
+
+	@Test
+	void getMatchesPaginated_cacheHit_skipsRepository() {
+		Page<MatchDTO> cachedPage = new PageImpl<>(List.of(toMatchDTO(createMatch(1L, "alice", Sport.FOOTBALL,
+				LocalDate.now(), LocalTime.NOON))));
+
+		when(matchPageCache.getIfPresent(new MatchPageKey(0, 10, "matchDate", "desc", new MatchFilterKey(null, null,
+				null)))).thenReturn(cachedPage);
+
+		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(0, 10, "matchDate", "DESC", null, null,
+				null, null, null, null);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue()).isSameAs(cachedPage);
+		verifyNoInteractions(matchRepository);
+	}
+
+	@Test
+	void getMatchesPaginated_upcomingHours_filtersOnRangeFromNow() {
+		when(matchRepository.findMatchDTOPage(any(MatchFilterKey.class), any(Pageable.class)))
+				.thenReturn(Page.empty());
+		LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+		Result<Page<MatchDTO>> result = matchService.getPaginatedMatches(0, 10, "matchDate", "asc", null, null, null,
+				null, null, 6);
+
+		ArgumentCaptor<MatchFilterKey> filter = ArgumentCaptor.forClass(MatchFilterKey.class);
+		verify(matchRepository).findMatchDTOPage(filter.capture(), any(Pageable.class));
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(filter.getValue().from()).isBetween(before, LocalDateTime.now());
+		assertThat(filter.getValue().to()).isEqualTo(filter.getValue().from().plusHours(6));
+	}
+
+	@Test
+	void getMatchesPaginated_invalidRange_returnsError() {
+		LocalDateTime kickOff = LocalDateTime.of(2025, 8, 22, 18, 0);
+
+		assertThat(matchService.getPaginatedMatches(0, 10, "matchDate", "asc", null, null, null, kickOff,
+				kickOff, null).getError()).isEqualTo("Invalid range: from must be before to");
+		assertThat(matchService.getPaginatedMatches(0, 10, "matchDate", "asc", null, null, null, kickOff, null, 6)
+				.getError()).isEqualTo("Invalid range: upcomingHours cannot be combined with from or to");
+		assertThat(matchService.getPaginatedMatches(0, 10, "matchDate", "asc", null, null, null, null, null, 0)
+				.getError()).isEqualTo("Invalid range: upcomingHours must be between 1 and 168");
+		verifyNoInteractions(matchRepository);
+	}
+
+	@Test
+	void saveMatch_publishesMatchChangedEvent() {
+		mockSecurityContextWithUsername("currentUser");
+
+		when(matchRepository.saveAndFlush(any(Match.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		matchService.saveMatch(createSaveMatchRequest());
+
+		verify(eventPublisher).publishEvent(new MatchChangedEvent(null,
+				List.of(new MatchFilterKey("currentUser", Sport.BASKETBALL, LocalDate.of(2025, 8, 22)))));
+	}
+
+	@Test
+	void saveMatches_reportsEachItem() {
+		mockSecurityContextWithUsername("currentUser");
+
+		SaveMatchRequest valid = createSaveMatchRequest();
+		SaveMatchRequest invalid = createSaveMatchRequest();
+		SaveMatchRequest repeated = createSaveMatchRequest();
+		SaveMatchRequest existing = createSaveMatchRequest();
+		existing.setTeamB("OSFP");
+
+		ConstraintViolation<SaveMatchRequest> violation = mock(ConstraintViolation.class);
+		when(violation.getMessage()).thenReturn("Team A and Team B must be different");
+		when(validator.validate(invalid)).thenReturn(Set.of(violation));
+		when(matchRepository.findExistingIdentities(any())).thenReturn(Set.of(new MatchIdentity("AEK", "OSFP",
+				LocalDate.of(2025, 8, 22), LocalTime.of(13, 52), Sport.BASKETBALL)));
+
+		Result<List<MatchBatchItemDTO>> result = matchService
+				.saveMatches(List.of(valid, invalid, repeated, existing));
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue()).extracting(MatchBatchItemDTO::getStatus).containsExactly(
+				BatchItemStatus.CREATED, BatchItemStatus.INVALID, BatchItemStatus.DUPLICATE,
+				BatchItemStatus.DUPLICATE);
+		assertThat(result.getValue().get(1).getErrors()).containsExactly("Team A and Team B must be different");
+
+		ArgumentCaptor<List<Match>> saved = ArgumentCaptor.forClass(List.class);
+		verify(matchRepository).saveAll(saved.capture());
+		assertThat(saved.getValue()).hasSize(1);
+		verify(matchRepository).findExistingIdentities(any());
+		verify(eventPublisher).publishEvent(new MatchChangedEvent(null,
+				List.of(new MatchFilterKey("currentUser", Sport.BASKETBALL, LocalDate.of(2025, 8, 22)))));
+	}
+
+	@Test
+	void saveMatches_rejectsOversizedBatch() {
+		mockSecurityContextWithUsername("currentUser");
+
+		List<SaveMatchRequest> requests = Collections.nCopies(501, createSaveMatchRequest());
+
+		Result<List<MatchBatchItemDTO>> result = matchService.saveMatches(requests);
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getError()).containsIgnoringCase("invalid batch size");
+		verifyNoInteractions(matchRepository);
+	}
+
+	@Test
+	void updateMatchOdds_success_skipsFindById() {
+		Long matchId = 1L;
+		mockSecurityContextWithUsername("user1");
+
+		when(matchRepository.incrementVersionByIdAndOwner(matchId, "user1", 3L)).thenReturn(1);
+
+		Result<MatchOddsDTO> result = matchService.updateMatchOdds(matchId, createUpdateOddsRequest(3L));
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getValue().getVersion()).isEqualTo(4L);
+		verify(matchRepository).updateOddsByMatchId(matchId, 1.5, 3.2, 4.8);
+		verify(matchRepository, never()).findById(any());
+		verify(eventPublisher).publishEvent(new MatchChangedEvent(matchId, List.of()));
+	}
+
+	@Test
+	void updateMatchOdds_staleVersion_returnsConflict() {
+		Long matchId = 1L;
+		mockSecurityContextWithUsername("user1");
+
+		Match match = createMatch(matchId, "user1", Sport.FOOTBALL, LocalDate.of(2025, 8, 22), LocalTime.NOON);
+		match.setVersion(5L);
+
+		when(matchRepository.incrementVersionByIdAndOwner(matchId, "user1", 3L)).thenReturn(0);
+		when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+
+		Result<MatchOddsDTO> result = matchService.updateMatchOdds(matchId, createUpdateOddsRequest(3L));
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getError()).containsIgnoringCase("conflict");
+		verify(matchRepository, never()).updateOddsByMatchId(any(), any(), any(), any());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	void updateMatchOdds_forbidden_userNotOwner() {
+		Long matchId = 1L;
+		mockSecurityContextWithUsername("user2");
+
+		Match match = createMatch(matchId, "user1", Sport.FOOTBALL, LocalDate.of(2025, 8, 22), LocalTime.NOON);
+
+		when(matchRepository.incrementVersionByIdAndOwner(matchId, "user2", 3L)).thenReturn(0);
+		when(matchRepository.findById(matchId)).thenReturn(Optional.of(match));
+
+		Result<MatchOddsDTO> result = matchService.updateMatchOdds(matchId, createUpdateOddsRequest(3L));
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getError()).containsIgnoringCase("do not have permission");
+	}
+
+	@Test
+	void updateMatchOdds_matchNotFound() {
+		Long matchId = 42L;
+		mockSecurityContextWithUsername("user1");
+
+		when(matchRepository.incrementVersionByIdAndOwner(matchId, "user1", 3L)).thenReturn(0);
+		when(matchRepository.findById(matchId)).thenReturn(Optional.empty());
+
+		Result<MatchOddsDTO> result = matchService.updateMatchOdds(matchId, createUpdateOddsRequest(3L));
+
+		assertThat(result.isSuccess()).isFalse();
+		assertThat(result.getError()).containsIgnoringCase("not_found");
+	}
+
+	private UpdateOddsRequest createUpdateOddsRequest(Long version) {
+		UpdateOddsRequest request = new UpdateOddsRequest();
+		request.setVersion(version);
+		request.setOdds(List.of(odd(Specifier.WIN, 1.5), odd(Specifier.DRAW, 3.2), odd(Specifier.LOSE, 4.8)));
+		return request;
+	}
+
+	private MatchOdds odd(Specifier specifier, Double value) {
+		MatchOdds odd = new MatchOdds();
+		odd.setSpecifier(specifier);
+		odd.setOdd(value);
+		return odd;
+	}
+
 	private SaveMatchRequest createSaveMatchRequest() {
 		SaveMatchRequest request = new SaveMatchRequest();
 		request.setMatchDate("2025-08-22");
@@ -597,4 +829,9 @@ public class MatchServiceImplTest {
 		m.setMatchTime(time);
 		return m;
 	}
+
+	private MatchDTO toMatchDTO(Match match) {
+		return new MatchDTO(match.getId(), match.getOwner(), match.getDescription(), match.getMatchDate(),
+				match.getMatchTime(), match.getTeamA(), match.getTeamB(), match.getSport(), match.getVersion());
+	}
 }